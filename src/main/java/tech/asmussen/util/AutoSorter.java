@@ -0,0 +1,151 @@
+package tech.asmussen.util;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@link Sorter} that looks at the input before sorting it and picks the algorithm that fits it best.
+ * <p>
+ * The choice is made from the size of the array, a sample of its adjacent pairs to estimate how presorted it is,
+ * a sorted sample of its values to estimate how many duplicates it has, and its exact range of values.
+ * Looking costs a single vectorizable pass for the range plus a fixed-size sample, which is small next to sorting.
+ */
+public class AutoSorter implements Sorter {
+	
+	/**
+	 * The size at or below which arrays are insertion sorted without looking any further.
+	 */
+	private static final int SMALL_THRESHOLD = 32;
+	
+	/**
+	 * The number of adjacent pairs and of values sampled.
+	 */
+	private static final int SAMPLE_SIZE = 256;
+	
+	/**
+	 * The size at or above which arrays are sorted in parallel if more than one thread is available.
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 18;
+	
+	/**
+	 * The size at or above which random data is radix sorted instead of quick sorted.
+	 */
+	private static final int RADIX_THRESHOLD = 1 << 12;
+	
+	private final int parallelism;
+	
+	/**
+	 * The parallel radix sort bound to this sorter's parallelism.
+	 */
+	private final Sorter parallelRadix;
+	
+	/**
+	 * Create an automatic sorter that sorts large arrays in parallel on the common pool.
+	 */
+	public AutoSorter() {
+		
+		this(ForkJoinPool.getCommonPoolParallelism());
+	}
+	
+	/**
+	 * Create an automatic sorter that sorts large arrays with the given number of threads.
+	 *
+	 * @param parallelism The number of threads to sort with, 1 to never sort in parallel.
+	 * @throws IllegalArgumentException If the parallelism is less than 1 throw this exception.
+	 */
+	public AutoSorter(int parallelism) {
+		
+		if (parallelism < 1)
+			
+			throw new IllegalArgumentException("The parallelism must be at least 1.");
+		
+		this.parallelism = parallelism;
+		this.parallelRadix = numbers -> Sorters.parallelRadixSort(numbers, parallelism);
+	}
+	
+	/**
+	 * Sorts the specified array of numbers with the algorithm chosen for it.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 * @see #choose(int[])
+	 */
+	@Override
+	public void sort(int[] numbers) {
+		
+		choose(numbers).sort(numbers);
+	}
+	
+	/**
+	 * Choose the algorithm to sort an array of numbers with, without modifying it.
+	 * <ul>
+	 *     <li>Tiny arrays use {@link Sorter#INSERTION}.</li>
+	 *     <li>Arrays whose sampled pairs are all in order, or all in reverse, use {@link Sorter#TIM},
+	 *     which finishes a sorted or reversed array in a single pass.</li>
+	 *     <li>Arrays whose range of values is no larger than their size use {@link Sorter#COUNTING}.</li>
+	 *     <li>Large arrays use {@link Sorters#parallelRadixSort(int[], int)} with this sorter's parallelism
+	 *     if it is more than 1.</li>
+	 *     <li>Arrays with many duplicates in the sample use {@link Sorter#THREE_WAY_QUICK}.</li>
+	 *     <li>Other arrays use {@link Sorter#RADIX} if they are large enough to amortize its passes,
+	 *     and {@link Sorter#PATTERN_DEFEATING} otherwise.</li>
+	 * </ul>
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The algorithm to sort the array with.
+	 */
+	public Sorter choose(int[] numbers) {
+		
+		int length = numbers.length;
+		
+		if (length <= SMALL_THRESHOLD) return Sorter.INSERTION;
+		
+		int pairCount = Math.min(SAMPLE_SIZE, length - 1);
+		int step = (length - 1) / pairCount;
+		int descents = 0;
+		
+		for (int i = 0, index = 0; i < pairCount; i++, index += step) {
+			
+			descents += numbers[index] > numbers[index + 1] ? 1 : 0;
+		}
+		
+		if (descents == 0 || descents == pairCount) return Sorter.TIM;
+		
+		long range = (long) Sorters.getLargest(numbers) - Sorters.getSmallest(numbers) + 1;
+		
+		if (range <= length) return Sorter.COUNTING;
+		
+		if (parallelism > 1 && length >= PARALLEL_THRESHOLD) return parallelRadix;
+		
+		if (distinctSampleRatio(numbers) <= 0.25) return Sorter.THREE_WAY_QUICK;
+		
+		return length >= RADIX_THRESHOLD ? Sorter.RADIX : Sorter.PATTERN_DEFEATING;
+	}
+	
+	/**
+	 * Estimate the fraction of distinct values in an array from evenly spaced samples.
+	 *
+	 * @param numbers The array of numbers, longer than the sample.
+	 * @return The number of distinct values in the sample divided by its size.
+	 */
+	private static double distinctSampleRatio(int[] numbers) {
+		
+		int sampleSize = Math.min(SAMPLE_SIZE, numbers.length);
+		int step = numbers.length / sampleSize;
+		
+		int[] sample = new int[sampleSize];
+		
+		for (int i = 0; i < sampleSize; i++) {
+			
+			sample[i] = numbers[i * step];
+		}
+		
+		Sorters.sort(sample);
+		
+		int distinct = 1;
+		
+		for (int i = 1; i < sampleSize; i++) {
+			
+			distinct += sample[i] != sample[i - 1] ? 1 : 0;
+		}
+		
+		return (double) distinct / sampleSize;
+	}
+}
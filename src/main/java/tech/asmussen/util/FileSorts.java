@@ -0,0 +1,1011 @@
+package tech.asmussen.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The sorts in {@link Sorters} that work on buffers and files rather than arrays.
+ * <p>
+ * This holds the in-place introsorts over buffers and memory-mapped files, and the external merge sort
+ * for files larger than memory, along with the file handling they need.
+ */
+final class FileSorts {
+	
+	/**
+	 * The largest number of records the external sort loads into memory as a single run.
+	 */
+	private static final long MAX_RUN_RECORDS = 1L << 27;
+	
+	/**
+	 * The size in bytes of the buffer the external sort reads its runs and writes its output through.
+	 */
+	private static final int IO_BUFFER_SIZE = 1 << 16;
+	
+	/**
+	 * Sort the remaining elements of a buffer in place using introsort.
+	 *
+	 * @param buffer The buffer to sort.
+	 * @see Sorters#introSort(IntBuffer)
+	 */
+	static void introSort(IntBuffer buffer) {
+		
+		int fromIndex = buffer.position();
+		int toIndex = buffer.limit();
+		
+		introSort(buffer, fromIndex, toIndex, 2 * Sorters.log2(toIndex - fromIndex));
+	}
+	
+	/**
+	 * Sorts a range of a buffer using the introsort algorithm.
+	 *
+	 * @param buffer     The buffer to sort.
+	 * @param fromIndex  The index of the first element, inclusive.
+	 * @param toIndex    The index of the last element, exclusive.
+	 * @param depthLimit The number of partitioning levels left before falling back to heap sort.
+	 */
+	private static void introSort(IntBuffer buffer, int fromIndex, int toIndex, int depthLimit) {
+		
+		while (toIndex - fromIndex > Sorters.INSERTION_SORT_THRESHOLD) {
+			
+			if (depthLimit-- == 0) {
+				
+				heapSort(buffer, fromIndex, toIndex);
+				
+				return;
+			}
+			
+			int splitIndex = introPartition(buffer, fromIndex, toIndex);
+			
+			// Recurse into the smaller side and loop on the larger one to keep the stack depth logarithmic.
+			if (splitIndex - fromIndex < toIndex - splitIndex) {
+				
+				introSort(buffer, fromIndex, splitIndex, depthLimit);
+				
+				fromIndex = splitIndex;
+				
+			} else {
+				
+				introSort(buffer, splitIndex, toIndex, depthLimit);
+				
+				toIndex = splitIndex;
+			}
+		}
+		
+		insertionSort(buffer, fromIndex, toIndex);
+	}
+	
+	/**
+	 * Partitions a range of a buffer around a median-of-three pivot using Hoare's scheme.
+	 *
+	 * @param buffer    The buffer to partition.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 * @return The split index, every element before it is less than or equal to every element from it.
+	 */
+	private static int introPartition(IntBuffer buffer, int fromIndex, int toIndex) {
+		
+		int middleIndex = (fromIndex + toIndex) >>> 1;
+		int lastIndex = toIndex - 1;
+		
+		int low = buffer.get(fromIndex);
+		int middle = buffer.get(middleIndex);
+		int high = buffer.get(lastIndex);
+		
+		int pivotIndex = low < middle
+				? (middle < high ? middleIndex : low < high ? lastIndex : fromIndex)
+				: (low < high ? fromIndex : middle < high ? lastIndex : middleIndex);
+		
+		quickSwap(buffer, fromIndex, pivotIndex);
+		
+		int pivot = buffer.get(fromIndex);
+		
+		int leftPointer = fromIndex - 1;
+		int rightPointer = toIndex;
+		
+		while (true) {
+			
+			do leftPointer++; while (buffer.get(leftPointer) < pivot);
+			do rightPointer--; while (buffer.get(rightPointer) > pivot);
+			
+			if (leftPointer >= rightPointer) return rightPointer + 1;
+			
+			quickSwap(buffer, leftPointer, rightPointer);
+		}
+	}
+	
+	/**
+	 * Swaps two elements in a buffer.
+	 *
+	 * @param buffer The buffer.
+	 * @param index1 The index of the first element.
+	 * @param index2 The index of the second element.
+	 */
+	private static void quickSwap(IntBuffer buffer, int index1, int index2) {
+		
+		int temp = buffer.get(index1);
+		
+		buffer.put(index1, buffer.get(index2));
+		buffer.put(index2, temp);
+	}
+	
+	/**
+	 * Sorts a range of a buffer using the insertion sort algorithm.
+	 *
+	 * @param buffer    The buffer to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void insertionSort(IntBuffer buffer, int fromIndex, int toIndex) {
+		
+		for (int i = fromIndex + 1; i < toIndex; i++) {
+			
+			int currentValue = buffer.get(i);
+			
+			int j = i - 1;
+			
+			while (j >= fromIndex && buffer.get(j) > currentValue) {
+				
+				buffer.put(j + 1, buffer.get(j));
+				
+				j--;
+			}
+			
+			buffer.put(j + 1, currentValue);
+		}
+	}
+	
+	/**
+	 * Sorts a range of a buffer using the heap sort algorithm.
+	 *
+	 * @param buffer    The buffer to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void heapSort(IntBuffer buffer, int fromIndex, int toIndex) {
+		
+		int length = toIndex - fromIndex;
+		
+		for (int i = (length >>> 1) - 1; i >= 0; i--) {
+			
+			siftDown(buffer, fromIndex, i, length);
+		}
+		
+		for (int end = length - 1; end > 0; end--) {
+			
+			quickSwap(buffer, fromIndex, fromIndex + end);
+			
+			siftDown(buffer, fromIndex, 0, end);
+		}
+	}
+	
+	/**
+	 * Restore the max-heap property below an element of a heap stored in a range of a buffer.
+	 *
+	 * @param buffer The buffer holding the heap.
+	 * @param offset The index of the root of the heap in the buffer.
+	 * @param index  The heap index of the element to sift down.
+	 * @param length The number of elements in the heap.
+	 */
+	private static void siftDown(IntBuffer buffer, int offset, int index, int length) {
+		
+		int value = buffer.get(offset + index);
+		
+		int child;
+		
+		while ((child = 2 * index + 1) < length) {
+			
+			if (child + 1 < length && buffer.get(offset + child + 1) > buffer.get(offset + child)) child++;
+			
+			if (buffer.get(offset + child) <= value) break;
+			
+			buffer.put(offset + index, buffer.get(offset + child));
+			
+			index = child;
+		}
+		
+		buffer.put(offset + index, value);
+	}
+	
+	/**
+	 * Sort the remaining elements of a buffer in place using introsort.
+	 *
+	 * @param buffer The buffer to sort.
+	 * @see Sorters#introSort(LongBuffer)
+	 */
+	static void introSort(LongBuffer buffer) {
+		
+		int fromIndex = buffer.position();
+		int toIndex = buffer.limit();
+		
+		introSort(buffer, fromIndex, toIndex, 2 * Sorters.log2(toIndex - fromIndex));
+	}
+	
+	/**
+	 * Sorts a range of a buffer using the introsort algorithm.
+	 *
+	 * @param buffer     The buffer to sort.
+	 * @param fromIndex  The index of the first element, inclusive.
+	 * @param toIndex    The index of the last element, exclusive.
+	 * @param depthLimit The number of partitioning levels left before falling back to heap sort.
+	 */
+	private static void introSort(LongBuffer buffer, int fromIndex, int toIndex, int depthLimit) {
+		
+		while (toIndex - fromIndex > Sorters.INSERTION_SORT_THRESHOLD) {
+			
+			if (depthLimit-- == 0) {
+				
+				heapSort(buffer, fromIndex, toIndex);
+				
+				return;
+			}
+			
+			int splitIndex = introPartition(buffer, fromIndex, toIndex);
+			
+			// Recurse into the smaller side and loop on the larger one to keep the stack depth logarithmic.
+			if (splitIndex - fromIndex < toIndex - splitIndex) {
+				
+				introSort(buffer, fromIndex, splitIndex, depthLimit);
+				
+				fromIndex = splitIndex;
+				
+			} else {
+				
+				introSort(buffer, splitIndex, toIndex, depthLimit);
+				
+				toIndex = splitIndex;
+			}
+		}
+		
+		insertionSort(buffer, fromIndex, toIndex);
+	}
+	
+	/**
+	 * Partitions a range of a buffer around a median-of-three pivot using Hoare's scheme.
+	 *
+	 * @param buffer    The buffer to partition.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 * @return The split index, every element before it is less than or equal to every element from it.
+	 */
+	private static int introPartition(LongBuffer buffer, int fromIndex, int toIndex) {
+		
+		int middleIndex = (fromIndex + toIndex) >>> 1;
+		int lastIndex = toIndex - 1;
+		
+		long low = buffer.get(fromIndex);
+		long middle = buffer.get(middleIndex);
+		long high = buffer.get(lastIndex);
+		
+		int pivotIndex = low < middle
+				? (middle < high ? middleIndex : low < high ? lastIndex : fromIndex)
+				: (low < high ? fromIndex : middle < high ? lastIndex : middleIndex);
+		
+		quickSwap(buffer, fromIndex, pivotIndex);
+		
+		long pivot = buffer.get(fromIndex);
+		
+		int leftPointer = fromIndex - 1;
+		int rightPointer = toIndex;
+		
+		while (true) {
+			
+			do leftPointer++; while (buffer.get(leftPointer) < pivot);
+			do rightPointer--; while (buffer.get(rightPointer) > pivot);
+			
+			if (leftPointer >= rightPointer) return rightPointer + 1;
+			
+			quickSwap(buffer, leftPointer, rightPointer);
+		}
+	}
+	
+	/**
+	 * Swaps two elements in a buffer.
+	 *
+	 * @param buffer The buffer.
+	 * @param index1 The index of the first element.
+	 * @param index2 The index of the second element.
+	 */
+	private static void quickSwap(LongBuffer buffer, int index1, int index2) {
+		
+		long temp = buffer.get(index1);
+		
+		buffer.put(index1, buffer.get(index2));
+		buffer.put(index2, temp);
+	}
+	
+	/**
+	 * Sorts a range of a buffer using the insertion sort algorithm.
+	 *
+	 * @param buffer    The buffer to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void insertionSort(LongBuffer buffer, int fromIndex, int toIndex) {
+		
+		for (int i = fromIndex + 1; i < toIndex; i++) {
+			
+			long currentValue = buffer.get(i);
+			
+			int j = i - 1;
+			
+			while (j >= fromIndex && buffer.get(j) > currentValue) {
+				
+				buffer.put(j + 1, buffer.get(j));
+				
+				j--;
+			}
+			
+			buffer.put(j + 1, currentValue);
+		}
+	}
+	
+	/**
+	 * Sorts a range of a buffer using the heap sort algorithm.
+	 *
+	 * @param buffer    The buffer to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void heapSort(LongBuffer buffer, int fromIndex, int toIndex) {
+		
+		int length = toIndex - fromIndex;
+		
+		for (int i = (length >>> 1) - 1; i >= 0; i--) {
+			
+			siftDown(buffer, fromIndex, i, length);
+		}
+		
+		for (int end = length - 1; end > 0; end--) {
+			
+			quickSwap(buffer, fromIndex, fromIndex + end);
+			
+			siftDown(buffer, fromIndex, 0, end);
+		}
+	}
+	
+	/**
+	 * Restore the max-heap property below an element of a heap stored in a range of a buffer.
+	 *
+	 * @param buffer The buffer holding the heap.
+	 * @param offset The index of the root of the heap in the buffer.
+	 * @param index  The heap index of the element to sift down.
+	 * @param length The number of elements in the heap.
+	 */
+	private static void siftDown(LongBuffer buffer, int offset, int index, int length) {
+		
+		long value = buffer.get(offset + index);
+		
+		int child;
+		
+		while ((child = 2 * index + 1) < length) {
+			
+			if (child + 1 < length && buffer.get(offset + child + 1) > buffer.get(offset + child)) child++;
+			
+			if (buffer.get(offset + child) <= value) break;
+			
+			buffer.put(offset + index, buffer.get(offset + child));
+			
+			index = child;
+		}
+		
+		buffer.put(offset + index, value);
+	}
+	
+	/**
+	 * Sort a file of records in place using introsort over memory-mapped windows.
+	 *
+	 * @param channel    The channel of the file to sort, open for reading and writing.
+	 * @param recordSize The size of a record in bytes, either {@link Integer#BYTES} or {@link Long#BYTES}.
+	 * @throws IOException              If the file could not be mapped throw this exception.
+	 * @throws IllegalArgumentException If the record size is invalid or the file is not a whole number of records
+	 *                                  throw this exception.
+	 * @see Sorters#introSort(FileChannel, int)
+	 */
+	static void introSort(FileChannel channel, int recordSize) throws IOException {
+		
+		if (recordSize != Integer.BYTES && recordSize != Long.BYTES)
+			
+			throw new IllegalArgumentException("The record size must be 4 or 8 bytes.");
+		
+		long size = channel.size();
+		
+		if (size % recordSize != 0)
+			
+			throw new IllegalArgumentException("The file must be a whole number of records.");
+		
+		MappedRecords records = new MappedRecords(channel, size, recordSize);
+		long length = size / recordSize;
+		
+		introSort(records, 0, length, 2 * Sorters.log2(length));
+		
+		records.force();
+	}
+	
+	/**
+	 * A file of fixed-size records mapped into memory as several windows, so records can be indexed past {@code 2^31}.
+	 */
+	private static final class MappedRecords {
+		
+		/**
+		 * The base 2 logarithm of the number of bytes in a window, a power of two so finding the window of
+		 * a record is a shift instead of a division.
+		 */
+		private static final int WINDOW_SHIFT = 30;
+		
+		private final MappedByteBuffer[] windows;
+		
+		/**
+		 * The base 2 logarithm of the record size.
+		 */
+		private final int recordShift;
+		
+		/**
+		 * The base 2 logarithm of the number of records in a window, and the mask of a record's index within it.
+		 */
+		private final int indexShift;
+		private final long indexMask;
+		
+		private MappedRecords(FileChannel channel, long size, int recordSize) throws IOException {
+			
+			this.recordShift = Integer.numberOfTrailingZeros(recordSize);
+			this.indexShift = WINDOW_SHIFT - recordShift;
+			this.indexMask = (1L << indexShift) - 1;
+			
+			long windowSize = 1L << WINDOW_SHIFT;
+			
+			this.windows = new MappedByteBuffer[(int) ((size + windowSize - 1) >>> WINDOW_SHIFT)];
+			
+			for (int i = 0; i < windows.length; i++) {
+				
+				long start = i * windowSize;
+				
+				windows[i] = channel.map(FileChannel.MapMode.READ_WRITE, start, Math.min(windowSize, size - start));
+			}
+		}
+		
+		/**
+		 * Get a record, widened to a {@code long} if it is an {@code int}.
+		 *
+		 * @param index The index of the record.
+		 * @return The record.
+		 */
+		private long get(long index) {
+			
+			MappedByteBuffer window = windows[(int) (index >>> indexShift)];
+			int offset = (int) (index & indexMask) << recordShift;
+			
+			return recordShift == 2 ? window.getInt(offset) : window.getLong(offset);
+		}
+		
+		/**
+		 * Set a record, narrowing the value to an {@code int} if the records are {@code int}s.
+		 *
+		 * @param index The index of the record.
+		 * @param value The value to set it to.
+		 */
+		private void put(long index, long value) {
+			
+			MappedByteBuffer window = windows[(int) (index >>> indexShift)];
+			int offset = (int) (index & indexMask) << recordShift;
+			
+			if (recordShift == 2) window.putInt(offset, (int) value);
+			else window.putLong(offset, value);
+		}
+		
+		/**
+		 * Swap two records.
+		 *
+		 * @param index1 The index of the first record.
+		 * @param index2 The index of the second record.
+		 */
+		private void swap(long index1, long index2) {
+			
+			long temp = get(index1);
+			
+			put(index1, get(index2));
+			put(index2, temp);
+		}
+		
+		/**
+		 * Write every changed record to the storage device.
+		 */
+		private void force() {
+			
+			for (MappedByteBuffer window : windows) {
+				
+				window.force();
+			}
+		}
+	}
+	
+	/**
+	 * Sorts a range of mapped records using the introsort algorithm.
+	 *
+	 * @param records    The records to sort.
+	 * @param fromIndex  The index of the first record, inclusive.
+	 * @param toIndex    The index of the last record, exclusive.
+	 * @param depthLimit The number of partitioning levels left before falling back to heap sort.
+	 */
+	private static void introSort(MappedRecords records, long fromIndex, long toIndex, int depthLimit) {
+		
+		while (toIndex - fromIndex > Sorters.INSERTION_SORT_THRESHOLD) {
+			
+			if (depthLimit-- == 0) {
+				
+				heapSort(records, fromIndex, toIndex);
+				
+				return;
+			}
+			
+			long splitIndex = introPartition(records, fromIndex, toIndex);
+			
+			// Recurse into the smaller side and loop on the larger one to keep the stack depth logarithmic.
+			if (splitIndex - fromIndex < toIndex - splitIndex) {
+				
+				introSort(records, fromIndex, splitIndex, depthLimit);
+				
+				fromIndex = splitIndex;
+				
+			} else {
+				
+				introSort(records, splitIndex, toIndex, depthLimit);
+				
+				toIndex = splitIndex;
+			}
+		}
+		
+		insertionSort(records, fromIndex, toIndex);
+	}
+	
+	/**
+	 * Partitions a range of mapped records around a median-of-three pivot using Hoare's scheme.
+	 *
+	 * @param records   The records to partition.
+	 * @param fromIndex The index of the first record, inclusive.
+	 * @param toIndex   The index of the last record, exclusive.
+	 * @return The split index, every record before it is less than or equal to every record from it.
+	 */
+	private static long introPartition(MappedRecords records, long fromIndex, long toIndex) {
+		
+		long middleIndex = (fromIndex + toIndex) >>> 1;
+		long lastIndex = toIndex - 1;
+		
+		long low = records.get(fromIndex);
+		long middle = records.get(middleIndex);
+		long high = records.get(lastIndex);
+		
+		long pivotIndex = low < middle
+				? (middle < high ? middleIndex : low < high ? lastIndex : fromIndex)
+				: (low < high ? fromIndex : middle < high ? lastIndex : middleIndex);
+		
+		records.swap(fromIndex, pivotIndex);
+		
+		long pivot = records.get(fromIndex);
+		
+		long leftPointer = fromIndex - 1;
+		long rightPointer = toIndex;
+		
+		while (true) {
+			
+			do leftPointer++; while (records.get(leftPointer) < pivot);
+			do rightPointer--; while (records.get(rightPointer) > pivot);
+			
+			if (leftPointer >= rightPointer) return rightPointer + 1;
+			
+			records.swap(leftPointer, rightPointer);
+		}
+	}
+	
+	/**
+	 * Sorts a range of mapped records using the insertion sort algorithm.
+	 *
+	 * @param records   The records to sort.
+	 * @param fromIndex The index of the first record, inclusive.
+	 * @param toIndex   The index of the last record, exclusive.
+	 */
+	private static void insertionSort(MappedRecords records, long fromIndex, long toIndex) {
+		
+		for (long i = fromIndex + 1; i < toIndex; i++) {
+			
+			long currentValue = records.get(i);
+			
+			long j = i - 1;
+			
+			while (j >= fromIndex && records.get(j) > currentValue) {
+				
+				records.put(j + 1, records.get(j));
+				
+				j--;
+			}
+			
+			records.put(j + 1, currentValue);
+		}
+	}
+	
+	/**
+	 * Sorts a range of mapped records using the heap sort algorithm.
+	 *
+	 * @param records   The records to sort.
+	 * @param fromIndex The index of the first record, inclusive.
+	 * @param toIndex   The index of the last record, exclusive.
+	 */
+	private static void heapSort(MappedRecords records, long fromIndex, long toIndex) {
+		
+		long length = toIndex - fromIndex;
+		
+		for (long i = (length >>> 1) - 1; i >= 0; i--) {
+			
+			siftDown(records, fromIndex, i, length);
+		}
+		
+		for (long end = length - 1; end > 0; end--) {
+			
+			records.swap(fromIndex, fromIndex + end);
+			
+			siftDown(records, fromIndex, 0, end);
+		}
+	}
+	
+	/**
+	 * Restore the max-heap property below a record of a heap stored in a range of mapped records.
+	 *
+	 * @param records The records holding the heap.
+	 * @param offset  The index of the root of the heap.
+	 * @param index   The heap index of the record to sift down.
+	 * @param length  The number of records in the heap.
+	 */
+	private static void siftDown(MappedRecords records, long offset, long index, long length) {
+		
+		long value = records.get(offset + index);
+		
+		long child;
+		
+		while ((child = 2 * index + 1) < length) {
+			
+			if (child + 1 < length && records.get(offset + child + 1) > records.get(offset + child)) child++;
+			
+			if (records.get(offset + child) <= value) break;
+			
+			records.put(offset + index, records.get(offset + child));
+			
+			index = child;
+		}
+		
+		records.put(offset + index, value);
+	}
+	
+	/**
+	 * Sort a file of records that may be larger than memory with a parallel external merge sort.
+	 *
+	 * @param input        The file to sort.
+	 * @param output       The file to write the sorted records to, which may be the input.
+	 * @param recordSize   The size of a record in bytes, either {@link Integer#BYTES} or {@link Long#BYTES}.
+	 * @param memoryBudget The approximate number of heap bytes to use for sorting runs.
+	 * @param parallelism  The number of runs to sort at the same time.
+	 * @throws IOException              If the files could not be read or written throw this exception.
+	 * @throws IllegalArgumentException If the record size, budget or parallelism is invalid, or the input is not
+	 *                                  a whole number of records throw this exception.
+	 * @see Sorters#externalSort(Path, Path, int, long, int)
+	 */
+	static void externalSort(Path input, Path output, int recordSize, long memoryBudget, int parallelism) throws IOException {
+		
+		if (recordSize != Integer.BYTES && recordSize != Long.BYTES)
+			
+			throw new IllegalArgumentException("The record size must be 4 or 8 bytes.");
+		
+		if (memoryBudget < 1)
+			
+			throw new IllegalArgumentException("The memory budget must be positive.");
+		
+		if (parallelism < 1)
+			
+			throw new IllegalArgumentException("The parallelism must be at least 1.");
+		
+		Path directory = output.toAbsolutePath().getParent();
+		Path sorted = Files.createTempFile(directory, "sort-", ".tmp");
+		
+		try {
+			
+			try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+				
+				long size = channel.size();
+				
+				if (size % recordSize != 0)
+					
+					throw new IllegalArgumentException("The input must be a whole number of records.");
+				
+				// Every record in a run needs room both in the run and in the radix sort's workspace.
+				long runRecords = Math.max(1_024, Math.min(memoryBudget / (2L * recordSize * parallelism), MAX_RUN_RECORDS));
+				long runBytes = runRecords * recordSize;
+				int runCount = (int) ((size + runBytes - 1) / runBytes);
+				
+				if (runCount <= 1) sortRun(channel, 0, size, sorted, recordSize);
+				else sortRuns(channel, size, runBytes, runCount, sorted, recordSize, parallelism);
+			}
+			
+			// Move only once the input is closed, some platforms refuse to replace a file that is still open.
+			Files.move(sorted, output, StandardCopyOption.REPLACE_EXISTING);
+			
+		} finally {
+			
+			deleteQuietly(sorted);
+		}
+	}
+	
+	/**
+	 * Sort a file of records in runs spilled to temporary files, then merge the runs into a single sorted file.
+	 *
+	 * @param channel     The channel of the file to sort.
+	 * @param size        The size of the file in bytes.
+	 * @param runBytes    The size of a run in bytes, a whole number of records.
+	 * @param runCount    The number of runs.
+	 * @param target      The file to write the sorted records to, it is replaced if it exists.
+	 * @param recordSize  The size of a record in bytes.
+	 * @param parallelism The number of runs to sort at the same time.
+	 * @throws IOException If the files could not be read or written throw this exception.
+	 */
+	private static void sortRuns(FileChannel channel, long size, long runBytes, int runCount, Path target, int recordSize, int parallelism) throws IOException {
+		
+		Path directory = target.toAbsolutePath().getParent();
+		
+		List<Path> runs = new ArrayList<>(runCount);
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, runCount));
+		
+		try {
+			
+			List<Future<?>> futures = new ArrayList<>(runCount);
+			
+			for (int run = 0; run < runCount; run++) {
+				
+				long start = run * runBytes;
+				long length = Math.min(runBytes, size - start);
+				
+				Path file = Files.createTempFile(directory, "sort-run-", ".tmp");
+				
+				runs.add(file);
+				futures.add(executor.submit(() -> {
+					
+					sortRun(channel, start, length, file, recordSize);
+					
+					return null;
+				}));
+			}
+			
+			awaitAll(futures);
+			
+			mergeRuns(runs, target, recordSize);
+			
+		} finally {
+			
+			executor.shutdown();
+			
+			for (Path run : runs) {
+				
+				deleteQuietly(run);
+			}
+		}
+	}
+	
+	/**
+	 * Sort a region of a file of records in memory and write it to another file.
+	 * <p>
+	 * The region is read rather than mapped, since it is copied into an array anyway and a mapping would keep
+	 * the file locked on some platforms until it is garbage collected.
+	 *
+	 * @param channel    The channel of the file to read the region from.
+	 * @param start      The offset of the region in bytes.
+	 * @param length     The length of the region in bytes.
+	 * @param target     The file to write the sorted records to, it is replaced if it exists.
+	 * @param recordSize The size of a record in bytes.
+	 * @throws IOException If the files could not be read or written throw this exception.
+	 */
+	private static void sortRun(FileChannel channel, long start, long length, Path target, int recordSize) throws IOException {
+		
+		ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER_SIZE);
+		
+		try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			
+			if (recordSize == Integer.BYTES) {
+				
+				int[] records = new int[(int) (length / Integer.BYTES)];
+				
+				for (int i = 0; i < records.length; ) {
+					
+					readFully(channel, buffer, start + (long) i * Integer.BYTES, (long) (records.length - i) * Integer.BYTES);
+					
+					while (buffer.hasRemaining()) records[i++] = buffer.getInt();
+				}
+				
+				Sorters.radixSort(records);
+				
+				buffer.clear();
+				
+				for (int record : records) {
+					
+					if (buffer.remaining() < Integer.BYTES) writeFully(out, buffer);
+					
+					buffer.putInt(record);
+				}
+				
+			} else {
+				
+				long[] records = new long[(int) (length / Long.BYTES)];
+				
+				for (int i = 0; i < records.length; ) {
+					
+					readFully(channel, buffer, start + (long) i * Long.BYTES, (long) (records.length - i) * Long.BYTES);
+					
+					while (buffer.hasRemaining()) records[i++] = buffer.getLong();
+				}
+				
+				Sorters.radixSort(records);
+				
+				buffer.clear();
+				
+				for (long record : records) {
+					
+					if (buffer.remaining() < Long.BYTES) writeFully(out, buffer);
+					
+					buffer.putLong(record);
+				}
+			}
+			
+			writeFully(out, buffer);
+		}
+	}
+	
+	/**
+	 * Fill a buffer from a channel at a position, without moving the channel's own position.
+	 *
+	 * @param channel  The channel to read from.
+	 * @param buffer   The buffer to fill, it is left in read mode.
+	 * @param position The offset in the channel to read from.
+	 * @param limit    The most bytes to read, the buffer's capacity is used if it is smaller.
+	 * @throws IOException If the channel could not be read or ends early throw this exception.
+	 */
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position, long limit) throws IOException {
+		
+		buffer.clear();
+		buffer.limit((int) Math.min(buffer.capacity(), limit));
+		
+		while (buffer.hasRemaining()) {
+			
+			if (channel.read(buffer, position + buffer.position()) < 0)
+				
+				throw new EOFException("The input ended before the run was read.");
+		}
+		
+		buffer.flip();
+	}
+	
+	/**
+	 * Merge sorted files of records into a single sorted file.
+	 *
+	 * @param runs       The sorted files to merge.
+	 * @param output     The file to write the merged records to, it is replaced if it exists.
+	 * @param recordSize The size of a record in bytes.
+	 * @throws IOException If the files could not be read or written throw this exception.
+	 */
+	private static void mergeRuns(List<Path> runs, Path output, int recordSize) throws IOException {
+		
+		PrimitiveIterator.OfLong[] sources = new PrimitiveIterator.OfLong[runs.size()];
+		
+		for (int i = 0; i < sources.length; i++) {
+			
+			// The mapping stays valid after the channel is closed.
+			try (FileChannel channel = FileChannel.open(runs.get(i), StandardOpenOption.READ)) {
+				
+				MappedByteBuffer run = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				
+				sources[i] = recordSize == Integer.BYTES ? SortedMerges.iterator(run.asIntBuffer()) : SortedMerges.iterator(run.asLongBuffer());
+			}
+		}
+		
+		SortedMerges.LoserTree tree = new SortedMerges.LoserTree(sources);
+		
+		try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			
+			ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER_SIZE);
+			
+			while (tree.hasNext()) {
+				
+				if (buffer.remaining() < recordSize) writeFully(out, buffer);
+				
+				if (recordSize == Integer.BYTES) buffer.putInt((int) tree.nextLong());
+				else buffer.putLong(tree.nextLong());
+			}
+			
+			writeFully(out, buffer);
+		}
+	}
+	
+	/**
+	 * Write everything that has been put into a buffer to a channel and clear the buffer.
+	 *
+	 * @param channel The channel to write to.
+	 * @param buffer  The buffer to write, in write mode.
+	 * @throws IOException If the channel could not be written to throw this exception.
+	 */
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		
+		buffer.flip();
+		
+		while (buffer.hasRemaining()) {
+			
+			channel.write(buffer);
+		}
+		
+		buffer.clear();
+	}
+	
+	/**
+	 * Wait for every future to complete, rethrowing the first failure.
+	 *
+	 * @param futures The futures to wait for.
+	 * @throws IOException If a task failed with an I/O error or the wait was interrupted throw this exception.
+	 */
+	private static void awaitAll(List<Future<?>> futures) throws IOException {
+		
+		Throwable failure = null;
+		
+		for (Future<?> future : futures) {
+			
+			try {
+				
+				future.get();
+				
+			} catch (ExecutionException e) {
+				
+				if (failure == null) failure = e.getCause();
+				
+			} catch (InterruptedException e) {
+				
+				Thread.currentThread().interrupt();
+				
+				throw new InterruptedIOException("Interrupted while sorting runs.");
+			}
+		}
+		
+		if (failure instanceof IOException exception) throw exception;
+		if (failure instanceof RuntimeException exception) throw exception;
+		if (failure instanceof Error error) throw error;
+	}
+	
+	/**
+	 * Delete a file, or schedule it for deletion when the JVM exits if it cannot be deleted now.
+	 * <p>
+	 * Some platforms refuse to delete files that are still memory-mapped.
+	 *
+	 * @param file The file to delete.
+	 */
+	private static void deleteQuietly(Path file) {
+		
+		try {
+			
+			Files.deleteIfExists(file);
+			
+		} catch (IOException e) {
+			
+			file.toFile().deleteOnExit();
+		}
+	}
+}
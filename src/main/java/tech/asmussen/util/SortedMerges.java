@@ -0,0 +1,282 @@
+package tech.asmussen.util;
+
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * The lazy k-way merges of sorted sources behind {@link Sorters}, built on a loser tree.
+ * <p>
+ * {@link FileSorts} merges its sorted runs through the same tree.
+ */
+final class SortedMerges {
+	
+	/**
+	 * Lazily merge sorted arrays through a loser tree.
+	 *
+	 * @param arrays The sorted arrays to merge.
+	 * @return An iterator over the merged values.
+	 * @see Sorters#merge(int[]...)
+	 */
+	static PrimitiveIterator.OfInt merge(int[]... arrays) {
+		
+		PrimitiveIterator.OfLong[] sources = new PrimitiveIterator.OfLong[arrays.length];
+		
+		for (int i = 0; i < arrays.length; i++) {
+			
+			sources[i] = iterator(IntBuffer.wrap(arrays[i]));
+		}
+		
+		return narrow(new LoserTree(sources));
+	}
+	
+	/**
+	 * Lazily merge sorted sources through a loser tree.
+	 *
+	 * @param sources The sorted sources to merge.
+	 * @return An iterator over the merged values.
+	 * @see Sorters#merge(PrimitiveIterator.OfInt...)
+	 */
+	static PrimitiveIterator.OfInt merge(PrimitiveIterator.OfInt... sources) {
+		
+		PrimitiveIterator.OfLong[] widened = new PrimitiveIterator.OfLong[sources.length];
+		
+		for (int i = 0; i < sources.length; i++) {
+			
+			widened[i] = widen(sources[i]);
+		}
+		
+		return narrow(new LoserTree(widened));
+	}
+	
+	/**
+	 * Lazily merge sorted sources through a loser tree.
+	 *
+	 * @param sources The sorted sources to merge.
+	 * @return An iterator over the merged values.
+	 * @see Sorters#merge(PrimitiveIterator.OfLong...)
+	 */
+	static PrimitiveIterator.OfLong merge(PrimitiveIterator.OfLong... sources) {
+		
+		return new LoserTree(sources.clone());
+	}
+	
+	/**
+	 * Get a view of an {@code int} iterator that widens its values to {@code long}.
+	 *
+	 * @param iterator The iterator to widen.
+	 * @return The widened iterator.
+	 */
+	private static PrimitiveIterator.OfLong widen(PrimitiveIterator.OfInt iterator) {
+		
+		return new PrimitiveIterator.OfLong() {
+			
+			@Override
+			public boolean hasNext() {
+				
+				return iterator.hasNext();
+			}
+			
+			@Override
+			public long nextLong() {
+				
+				return iterator.nextInt();
+			}
+		};
+	}
+	
+	/**
+	 * Get a view of a {@code long} iterator, holding only {@code int} values, that narrows its values to {@code int}.
+	 *
+	 * @param iterator The iterator to narrow.
+	 * @return The narrowed iterator.
+	 */
+	private static PrimitiveIterator.OfInt narrow(PrimitiveIterator.OfLong iterator) {
+		
+		return new PrimitiveIterator.OfInt() {
+			
+			@Override
+			public boolean hasNext() {
+				
+				return iterator.hasNext();
+			}
+			
+			@Override
+			public int nextInt() {
+				
+				return (int) iterator.nextLong();
+			}
+		};
+	}
+	
+	/**
+	 * Get an iterator over the remaining elements of a buffer, widened to {@code long}.
+	 *
+	 * @param buffer The buffer to iterate over.
+	 * @return The iterator.
+	 */
+	static PrimitiveIterator.OfLong iterator(IntBuffer buffer) {
+		
+		return new PrimitiveIterator.OfLong() {
+			
+			@Override
+			public boolean hasNext() {
+				
+				return buffer.hasRemaining();
+			}
+			
+			@Override
+			public long nextLong() {
+				
+				return buffer.get();
+			}
+		};
+	}
+	
+	/**
+	 * Get an iterator over the remaining elements of a buffer.
+	 *
+	 * @param buffer The buffer to iterate over.
+	 * @return The iterator.
+	 */
+	static PrimitiveIterator.OfLong iterator(LongBuffer buffer) {
+		
+		return new PrimitiveIterator.OfLong() {
+			
+			@Override
+			public boolean hasNext() {
+				
+				return buffer.hasRemaining();
+			}
+			
+			@Override
+			public long nextLong() {
+				
+				return buffer.get();
+			}
+		};
+	}
+	
+	/**
+	 * A tournament tree that merges sorted sources by keeping the loser of every match in the internal nodes.
+	 * <p>
+	 * Taking the next value only replays the matches on the path from the winner's leaf to the root,
+	 * so each value costs {@code log2(k)} comparisons for {@code k} sources. Ties go to the earlier source.
+	 */
+	static final class LoserTree implements PrimitiveIterator.OfLong {
+		
+		private final PrimitiveIterator.OfLong[] sources;
+		private final long[] heads;
+		private final boolean[] exhausted;
+		
+		/**
+		 * The source index of the loser of the match at every internal node, with the overall winner at index 0.
+		 */
+		private final int[] tree;
+		
+		LoserTree(PrimitiveIterator.OfLong[] sources) {
+			
+			int count = sources.length;
+			
+			this.sources = sources;
+			this.heads = new long[count];
+			this.exhausted = new boolean[count];
+			this.tree = new int[Math.max(count, 1)];
+			
+			if (count == 0) return;
+			
+			for (int source = 0; source < count; source++) {
+				
+				advance(source);
+			}
+			
+			// The leaves sit at nodes count to 2 * count - 1, so play every match bottom up.
+			int[] winners = new int[2 * count];
+			
+			for (int source = 0; source < count; source++) {
+				
+				winners[count + source] = source;
+			}
+			
+			for (int node = count - 1; node > 0; node--) {
+				
+				int left = winners[2 * node];
+				int right = winners[2 * node + 1];
+				
+				if (beats(left, right)) {
+					
+					winners[node] = left;
+					tree[node] = right;
+					
+				} else {
+					
+					winners[node] = right;
+					tree[node] = left;
+				}
+			}
+			
+			tree[0] = winners[1];
+		}
+		
+		@Override
+		public boolean hasNext() {
+			
+			return sources.length > 0 && !exhausted[tree[0]];
+		}
+		
+		@Override
+		public long nextLong() {
+			
+			if (!hasNext())
+				
+				throw new NoSuchElementException();
+			
+			int winner = tree[0];
+			long value = heads[winner];
+			
+			advance(winner);
+			
+			for (int node = (winner + sources.length) >>> 1; node > 0; node >>>= 1) {
+				
+				if (beats(tree[node], winner)) {
+					
+					int loser = winner;
+					
+					winner = tree[node];
+					tree[node] = loser;
+				}
+			}
+			
+			tree[0] = winner;
+			
+			return value;
+		}
+		
+		/**
+		 * Load the next value of a source, or mark it as exhausted.
+		 *
+		 * @param source The index of the source.
+		 */
+		private void advance(int source) {
+			
+			if (sources[source].hasNext()) heads[source] = sources[source].nextLong();
+			else exhausted[source] = true;
+		}
+		
+		/**
+		 * Check if one source wins a match against another, exhausted sources lose every match.
+		 *
+		 * @param source   The index of the first source.
+		 * @param opponent The index of the second source.
+		 * @return True if the first source's value comes first, false otherwise.
+		 */
+		private boolean beats(int source, int opponent) {
+			
+			if (exhausted[source]) return false;
+			if (exhausted[opponent]) return true;
+			
+			return heads[source] < heads[opponent] || heads[source] == heads[opponent] && source < opponent;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package tech.asmussen.util;
+
+/**
+ * An algorithm for sorting an array of numbers in ascending order.
+ * <p>
+ * Every sort in {@link Sorters} is available as a constant, so the algorithm can be chosen at runtime
+ * or passed around, and {@link AutoSorter} chooses one based on the input.
+ */
+@FunctionalInterface
+public interface Sorter {
+	
+	/**
+	 * Insertion sort, for tiny or almost sorted arrays.
+	 *
+	 * @see Sorters#insertionSort(int[])
+	 */
+	Sorter INSERTION = Sorters::insertionSort;
+	
+	/**
+	 * Bubble sort.
+	 *
+	 * @see Sorters#bubbleSort(int[])
+	 */
+	Sorter BUBBLE = Sorters::bubbleSort;
+	
+	/**
+	 * Heap sort, in place with a guaranteed {@code O(n log n)} time.
+	 *
+	 * @see Sorters#heapSort(int[])
+	 */
+	Sorter HEAP = Sorters::heapSort;
+	
+	/**
+	 * Quick sort with random pivots.
+	 *
+	 * @see Sorters#quickSort(int[])
+	 */
+	Sorter QUICK = Sorters::quickSort;
+	
+	/**
+	 * Quick sort with three-way partitioning, for arrays with many duplicates.
+	 *
+	 * @see Sorters#quickSort(int[], Sorters.PartitionStrategy)
+	 */
+	Sorter THREE_WAY_QUICK = numbers -> Sorters.quickSort(numbers, Sorters.PartitionStrategy.THREE_WAY);
+	
+	/**
+	 * Dual-pivot quick sort.
+	 *
+	 * @see Sorters#quickSort(int[], Sorters.PartitionStrategy)
+	 */
+	Sorter DUAL_PIVOT_QUICK = numbers -> Sorters.quickSort(numbers, Sorters.PartitionStrategy.DUAL_PIVOT);
+	
+	/**
+	 * Introsort.
+	 *
+	 * @see Sorters#introSort(int[])
+	 */
+	Sorter INTRO = Sorters::introSort;
+	
+	/**
+	 * Pattern-defeating quick sort, the best general purpose sort.
+	 *
+	 * @see Sorters#sort(int[])
+	 */
+	Sorter PATTERN_DEFEATING = Sorters::sort;
+	
+	/**
+	 * Merge sort.
+	 *
+	 * @see Sorters#mergeSort(int[])
+	 */
+	Sorter MERGE = Sorters::mergeSort;
+	
+	/**
+	 * Parallel merge sort on the common pool.
+	 *
+	 * @see Sorters#parallelMergeSort(int[])
+	 */
+	Sorter PARALLEL_MERGE = Sorters::parallelMergeSort;
+	
+	/**
+	 * Adaptive merge sort, for arrays made of a few sorted runs.
+	 *
+	 * @see Sorters#timSort(int[])
+	 */
+	Sorter TIM = Sorters::timSort;
+	
+	/**
+	 * LSD radix sort, for large arrays.
+	 *
+	 * @see Sorters#radixSort(int[])
+	 */
+	Sorter RADIX = Sorters::radixSort;
+	
+	/**
+	 * Counting sort, for arrays whose values span a range no wider than the array is long.
+	 *
+	 * @see Sorters#countingSort(int[])
+	 */
+	Sorter COUNTING = Sorters::countingSort;
+	
+	/**
+	 * Parallel MSD radix sort on the common pool.
+	 *
+	 * @see Sorters#parallelRadixSort(int[])
+	 */
+	Sorter PARALLEL_RADIX = Sorters::parallelRadixSort;
+	
+	/**
+	 * Sorts the specified array of numbers in ascending order.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	void sort(int[] numbers);
+}
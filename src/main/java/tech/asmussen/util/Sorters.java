@@ -1,320 +1,6053 @@
 package tech.asmussen.util;
 
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Random;
+import java.util.ListIterator;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.random.RandomGenerator;
 
 /**
- * A utility class for sorting a list of numbers.
+ * A utility class for sorting numbers and objects, and for selecting and summarizing numbers.
+ * <p>
+ * Besides arrays and lists, it sorts buffers and files of records, including files larger than memory,
+ * and lazily merges sorted sources. Those are implemented in separate package-private classes and exposed here.
  */
 public class Sorters {
 	
+	/**
+	 * The size at or below which ranges are sorted using insertion sort, or a sorting network for int arrays.
+	 */
+	static final int INSERTION_SORT_THRESHOLD = 32;
+	
+	/**
+	 * The comparators of a sorting network for every range size up to the insertion sort threshold,
+	 * stored as consecutive pairs of offsets into the range.
+	 */
+	private static final int[][] SORTING_NETWORKS = buildSortingNetworks(INSERTION_SORT_THRESHOLD);
+	
+	/**
+	 * The default size at or below which the parallel sorts stop forking and sort sequentially.
+	 */
+	private static final int PARALLEL_CUTOFF = 8_192;
+	
+	/**
+	 * The number of elements summarized at a time, small enough to stay in the CPU cache between the two loops.
+	 */
+	private static final int SUMMARY_BLOCK_SIZE = 2_048;
+	
+	/**
+	 * The size below which the reductions stay scalar, as setting up the vector loop is not worth it.
+	 */
+	private static final int VECTOR_THRESHOLD = 256;
+	
+	/**
+	 * Whether the incubating Vector API was added to the JVM with {@code --add-modules jdk.incubator.vector},
+	 * in which case the reductions use SIMD instructions through {@link VectorReductions}.
+	 */
+	private static final boolean VECTOR_API_AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+	
+	/**
+	 * The partitioning schemes available to {@link #quickSort(int[], PartitionStrategy)}.
+	 */
+	public enum PartitionStrategy {
+		
+		/**
+		 * Split around a single random pivot into a lower and an upper part.
+		 * This is what {@link #quickSort(int[])} uses.
+		 */
+		TWO_WAY,
+		
+		/**
+		 * Split around a single pivot into parts less than, equal to and greater than it (Dutch national flag).
+		 * Keys equal to the pivot are never visited again, so low-cardinality data sorts in near-linear time.
+		 */
+		THREE_WAY,
+		
+		/**
+		 * Split around two pivots into three parts (Yaroslavskiy's dual-pivot quick sort).
+		 * The middle part is skipped entirely when both pivots are equal, and keys equal to either pivot
+		 * are swept out of it when it is large, so repeated pivots cannot make the sort quadratic.
+		 */
+		DUAL_PIVOT
+	}
+	
+	/**
+	 * Sorts the specified array of numbers, the recommended way to sort an array of {@code int}s.
+	 * <p>
+	 * This is a pattern-defeating quick sort. Ranges are partitioned in blocks: the offsets of the elements on the
+	 * wrong side are first recorded in small buffers without branching on their values and then swapped in bulk,
+	 * so random input does not mispredict a branch on every other element like a classic partition loop.
+	 * Input that is already sorted or reversed is finished in a single pass, partitions that turn out to be
+	 * nearly sorted are finished with a bounded insertion sort, and runs of elements equal to an earlier pivot
+	 * are split off and never visited again. A badly unbalanced partition shuffles a few elements of both sides
+	 * to break up adversarial patterns, and after {@code log2(n)} of them the range is heap sorted instead,
+	 * so the worst case is {@code O(n log n)}. Small ranges are finished with a sorting network.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void sort(int[] numbers) {
+		
+		int length = numbers.length;
+		
+		if (length <= INSERTION_SORT_THRESHOLD) {
+			
+			networkSort(numbers, 0, length);
+			
+			return;
+		}
+		
+		if (countRunAndMakeAscending(numbers, 0, length) == length) return;
+		
+		new PatternDefeatingSorter(numbers).sort(0, length, log2(length), true);
+	}
+	
+	/**
+	 * The state of a single pattern-defeating quick sort, the buffers of offsets used by the block partitioning.
+	 */
+	private static final class PatternDefeatingSorter {
+		
+		/**
+		 * The number of elements on each side a block partitioning step looks at before swapping.
+		 */
+		private static final int BLOCK_SIZE = 64;
+		
+		/**
+		 * The size above which the pivot is the ninther instead of the median of three.
+		 */
+		private static final int NINTHER_THRESHOLD = 128;
+		
+		/**
+		 * The number of element moves after which a partial insertion sort gives up.
+		 */
+		private static final int PARTIAL_INSERTION_SORT_LIMIT = 8;
+		
+		private final int[] numbers;
+		
+		private final int[] leftOffsets = new int[BLOCK_SIZE];
+		private final int[] rightOffsets = new int[BLOCK_SIZE];
+		
+		/**
+		 * Whether the range given to the last call of {@link #partitionRight(int, int)} was already partitioned.
+		 */
+		private boolean alreadyPartitioned;
+		
+		private PatternDefeatingSorter(int[] numbers) {
+			
+			this.numbers = numbers;
+		}
+		
+		/**
+		 * Sorts a range of the array.
+		 *
+		 * @param fromIndex  The index of the first element, inclusive.
+		 * @param toIndex    The index of the last element, exclusive.
+		 * @param badAllowed The number of badly unbalanced partitions left before falling back to heap sort.
+		 * @param leftmost   Whether the range starts the array, otherwise the element before it is no greater
+		 *                   than any element in it.
+		 */
+		private void sort(int fromIndex, int toIndex, int badAllowed, boolean leftmost) {
+			
+			while (toIndex - fromIndex > INSERTION_SORT_THRESHOLD) {
+				
+				int length = toIndex - fromIndex;
+				int middleIndex = fromIndex + length / 2;
+				
+				// Move the pivot to the front, leaving an element no less than it at the end.
+				if (length > NINTHER_THRESHOLD) {
+					
+					sortThree(fromIndex, middleIndex, toIndex - 1);
+					sortThree(fromIndex + 1, middleIndex - 1, toIndex - 2);
+					sortThree(fromIndex + 2, middleIndex + 1, toIndex - 3);
+					sortThree(middleIndex - 1, middleIndex, middleIndex + 1);
+					
+					quickSwap(numbers, fromIndex, middleIndex);
+					
+				} else {
+					
+					sortThree(middleIndex, fromIndex, toIndex - 1);
+				}
+				
+				// A pivot equal to the element before the range is the smallest value in it, so every element equal
+				// to it can be put first and skipped.
+				if (!leftmost && numbers[fromIndex - 1] >= numbers[fromIndex]) {
+					
+					fromIndex = partitionLeft(fromIndex, toIndex) + 1;
+					
+					continue;
+				}
+				
+				int pivotIndex = partitionRight(fromIndex, toIndex);
+				
+				int leftLength = pivotIndex - fromIndex;
+				int rightLength = toIndex - pivotIndex - 1;
+				
+				if (leftLength < length / 8 || rightLength < length / 8) {
+					
+					if (--badAllowed == 0) {
+						
+						heapSort(numbers, fromIndex, toIndex);
+						
+						return;
+					}
+					
+					breakPatterns(fromIndex, pivotIndex);
+					breakPatterns(pivotIndex + 1, toIndex);
+					
+				} else if (alreadyPartitioned && partialInsertionSort(fromIndex, pivotIndex) && partialInsertionSort(pivotIndex + 1, toIndex)) {
+					
+					return;
+				}
+				
+				// Recurse into the smaller side and loop on the larger one to keep the stack depth logarithmic.
+				if (leftLength < rightLength) {
+					
+					sort(fromIndex, pivotIndex, badAllowed, leftmost);
+					
+					fromIndex = pivotIndex + 1;
+					leftmost = false;
+					
+				} else {
+					
+					sort(pivotIndex + 1, toIndex, badAllowed, false);
+					
+					toIndex = pivotIndex;
+				}
+			}
+			
+			networkSort(numbers, fromIndex, toIndex);
+		}
+		
+		/**
+		 * Partition a range around the pivot at its start, putting the elements less than the pivot to the left of it
+		 * and the rest to the right, using block partitioning.
+		 * <p>
+		 * Sets {@link #alreadyPartitioned} if no elements had to be moved.
+		 *
+		 * @param fromIndex The index of the first element and the pivot, inclusive.
+		 * @param toIndex   The index of the last element, exclusive, which must be no less than the pivot.
+		 * @return The final index of the pivot.
+		 */
+		private int partitionRight(int fromIndex, int toIndex) {
+			
+			int pivot = numbers[fromIndex];
+			
+			int first = fromIndex;
+			int last = toIndex;
+			
+			do first++; while (numbers[first] < pivot);
+			
+			// Only an element skipped by the first scan guarantees the second one stops inside the range.
+			if (first - 1 == fromIndex) {
+				
+				do last--; while (first < last && numbers[last] >= pivot);
+				
+			} else {
+				
+				do last--; while (numbers[last] >= pivot);
+			}
+			
+			alreadyPartitioned = first >= last;
+			
+			if (!alreadyPartitioned) {
+				
+				quickSwap(numbers, first, last);
+				
+				first++;
+				
+				int leftBase = first;
+				int rightBase = last;
+				
+				int leftCount = 0;
+				int rightCount = 0;
+				int leftStart = 0;
+				int rightStart = 0;
+				
+				while (first < last) {
+					
+					// Refill the blocks that are empty, splitting what is left between them if both are.
+					int unknown = last - first;
+					int leftSplit = leftCount == 0 ? (rightCount == 0 ? unknown / 2 : unknown) : 0;
+					int rightSplit = rightCount == 0 ? unknown - leftSplit : 0;
+					
+					// The offset is always written, and only kept by counting it if the element is misplaced.
+					for (int i = 0, limit = Math.min(leftSplit, BLOCK_SIZE); i < limit; i++) {
+						
+						leftOffsets[leftCount] = i;
+						leftCount += numbers[first++] >= pivot ? 1 : 0;
+					}
+					
+					for (int i = 1, limit = Math.min(rightSplit, BLOCK_SIZE); i <= limit; i++) {
+						
+						rightOffsets[rightCount] = i;
+						rightCount += numbers[--last] < pivot ? 1 : 0;
+					}
+					
+					int count = Math.min(leftCount, rightCount);
+					
+					swapOffsets(leftBase, rightBase, leftStart, rightStart, count, leftCount == rightCount);
+					
+					leftCount -= count;
+					rightCount -= count;
+					leftStart += count;
+					rightStart += count;
+					
+					if (leftCount == 0) {
+						
+						leftStart = 0;
+						leftBase = first;
+					}
+					
+					if (rightCount == 0) {
+						
+						rightStart = 0;
+						rightBase = last;
+					}
+				}
+				
+				// The misplaced elements left in one block are swapped to the far end of their own side.
+				if (leftCount > 0) {
+					
+					while (leftCount-- > 0) quickSwap(numbers, leftBase + leftOffsets[leftStart + leftCount], --last);
+					
+					first = last;
+				}
+				
+				if (rightCount > 0) {
+					
+					while (rightCount-- > 0) quickSwap(numbers, rightBase - rightOffsets[rightStart + rightCount], first++);
+					
+					last = first;
+				}
+			}
+			
+			int pivotIndex = first - 1;
+			
+			numbers[fromIndex] = numbers[pivotIndex];
+			numbers[pivotIndex] = pivot;
+			
+			return pivotIndex;
+		}
+		
+		/**
+		 * Swap misplaced elements between the two blocks.
+		 *
+		 * @param leftBase   The index the left offsets are relative to.
+		 * @param rightBase  The index the right offsets are subtracted from.
+		 * @param leftStart  The index of the first left offset to use.
+		 * @param rightStart The index of the first right offset to use.
+		 * @param count      The number of pairs to swap.
+		 * @param useSwaps   Whether to use plain swaps, which is needed when both blocks are emptied.
+		 */
+		private void swapOffsets(int leftBase, int rightBase, int leftStart, int rightStart, int count, boolean useSwaps) {
+			
+			if (useSwaps) {
+				
+				for (int i = 0; i < count; i++) {
+					
+					quickSwap(numbers, leftBase + leftOffsets[leftStart + i], rightBase - rightOffsets[rightStart + i]);
+				}
+				
+			} else if (count > 0) {
+				
+				// Rotate the elements through a single cycle, which moves each of them once instead of twice.
+				int leftIndex = leftBase + leftOffsets[leftStart];
+				int rightIndex = rightBase - rightOffsets[rightStart];
+				
+				int temp = numbers[leftIndex];
+				
+				numbers[leftIndex] = numbers[rightIndex];
+				
+				for (int i = 1; i < count; i++) {
+					
+					leftIndex = leftBase + leftOffsets[leftStart + i];
+					numbers[rightIndex] = numbers[leftIndex];
+					
+					rightIndex = rightBase - rightOffsets[rightStart + i];
+					numbers[leftIndex] = numbers[rightIndex];
+				}
+				
+				numbers[rightIndex] = temp;
+			}
+		}
+		
+		/**
+		 * Partition a range around the pivot at its start, putting the elements equal to the pivot to the left of it
+		 * and the elements greater than it to the right.
+		 * <p>
+		 * Only used when the element before the range is equal to the pivot, so no element is less than it.
+		 *
+		 * @param fromIndex The index of the first element and the pivot, inclusive.
+		 * @param toIndex   The index of the last element, exclusive.
+		 * @return The final index of the pivot.
+		 */
+		private int partitionLeft(int fromIndex, int toIndex) {
+			
+			int pivot = numbers[fromIndex];
+			
+			int first = fromIndex;
+			int last = toIndex;
+			
+			do last--; while (pivot < numbers[last]);
+			
+			// Only an element skipped by the first scan guarantees the second one stops inside the range.
+			if (last + 1 == toIndex) {
+				
+				do first++; while (first < last && pivot >= numbers[first]);
+				
+			} else {
+				
+				do first++; while (pivot >= numbers[first]);
+			}
+			
+			while (first < last) {
+				
+				quickSwap(numbers, first, last);
+				
+				do last--; while (pivot < numbers[last]);
+				do first++; while (pivot >= numbers[first]);
+			}
+			
+			numbers[fromIndex] = numbers[last];
+			numbers[last] = pivot;
+			
+			return last;
+		}
+		
+		/**
+		 * Sorts a range using insertion sort, giving up once too many elements had to be moved.
+		 *
+		 * @param fromIndex The index of the first element, inclusive.
+		 * @param toIndex   The index of the last element, exclusive.
+		 * @return Whether the range was sorted.
+		 */
+		private boolean partialInsertionSort(int fromIndex, int toIndex) {
+			
+			int moves = 0;
+			
+			for (int i = fromIndex + 1; i < toIndex; i++) {
+				
+				int currentValue = numbers[i];
+				
+				if (currentValue < numbers[i - 1]) {
+					
+					int j = i;
+					
+					do {
+						
+						numbers[j] = numbers[j - 1];
+						
+						j--;
+						
+					} while (j > fromIndex && currentValue < numbers[j - 1]);
+					
+					numbers[j] = currentValue;
+					
+					moves += i - j;
+					
+					if (moves > PARTIAL_INSERTION_SORT_LIMIT) return false;
+				}
+			}
+			
+			return true;
+		}
+		
+		/**
+		 * Swap the elements at the ends and in the middle of a range with random elements of it,
+		 * so the next pivots are not chosen from the same pattern that produced a bad partition.
+		 *
+		 * @param fromIndex The index of the first element, inclusive.
+		 * @param toIndex   The index of the last element, exclusive.
+		 */
+		private void breakPatterns(int fromIndex, int toIndex) {
+			
+			int length = toIndex - fromIndex;
+			
+			if (length <= INSERTION_SORT_THRESHOLD) return;
+			
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			
+			int middleIndex = fromIndex + length / 2;
+			
+			// The ninther looks at three elements around each of these positions.
+			int count = length > NINTHER_THRESHOLD ? 3 : 1;
+			
+			for (int i = 0; i < count; i++) {
+				
+				quickSwap(numbers, fromIndex + i, random.nextInt(fromIndex, toIndex));
+				quickSwap(numbers, middleIndex - 1 + i, random.nextInt(fromIndex, toIndex));
+				quickSwap(numbers, toIndex - 1 - i, random.nextInt(fromIndex, toIndex));
+			}
+		}
+		
+		/**
+		 * Sort the elements at three indices, leaving the median at the second.
+		 *
+		 * @param a The index that gets the smallest element.
+		 * @param b The index that gets the median.
+		 * @param c The index that gets the largest element.
+		 */
+		private void sortThree(int a, int b, int c) {
+			
+			sortTwo(a, b);
+			sortTwo(b, c);
+			sortTwo(a, b);
+		}
+		
+		/**
+		 * Sort the elements at two indices.
+		 *
+		 * @param a The index that gets the smaller element.
+		 * @param b The index that gets the larger element.
+		 */
+		private void sortTwo(int a, int b) {
+			
+			if (numbers[b] < numbers[a]) quickSwap(numbers, a, b);
+		}
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the quick sort algorithm.
+	 * <p>
+	 * Pivots are chosen at random, and the partitioning stops on elements equal to the pivot from both sides,
+	 * so runs of repeated keys are split evenly instead of all landing on one side. Once the recursion gets deeper
+	 * than {@code 2 * log2(n)} the remaining range is heap sorted, guaranteeing {@code O(n log n)} time.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void quickSort(int[] numbers) {
+		
+		quickSort(numbers, 0, numbers.length - 1, ThreadLocalRandom.current(), 2 * log2(numbers.length));
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the quick sort algorithm with reproducible pivots.
+	 * <p>
+	 * The pivots are drawn from a generator seeded with the given seed, so sorting the same input with
+	 * the same seed always does the same work. This is meant for benchmarking.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 * @param seed    The seed for the pivot selection.
+	 */
+	public static void quickSort(int[] numbers, long seed) {
+		
+		quickSort(numbers, 0, numbers.length - 1, new SplittableRandom(seed), 2 * log2(numbers.length));
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the quick sort algorithm with the given partitioning scheme.
+	 * <p>
+	 * Every scheme falls back to heap sort once the recursion gets deeper than {@code 2 * log2(n)},
+	 * guaranteeing {@code O(n log n)} time.
+	 *
+	 * @param numbers  The array of numbers to sort.
+	 * @param strategy The partitioning scheme to use.
+	 */
+	public static void quickSort(int[] numbers, PartitionStrategy strategy) {
+		
+		switch (strategy) {
+			
+			case TWO_WAY -> quickSort(numbers);
+			case THREE_WAY -> threeWayQuickSort(numbers, 0, numbers.length, 2 * log2(numbers.length));
+			case DUAL_PIVOT -> dualPivotQuickSort(numbers, 0, numbers.length, 2 * log2(numbers.length));
+		}
+	}
+	
 	/**
 	 * Sorts the specified array of numbers using the quick sort algorithm.
 	 *
-	 * @param numbers The array of numbers to sort.
+	 * @param numbers    The array of numbers to sort.
+	 * @param lowIndex   The low index of the array.
+	 * @param highIndex  The high index of the array.
+	 * @param random     The generator to draw the pivots from.
+	 * @param depthLimit The number of partitioning levels left before falling back to heap sort.
+	 */
+	private static void quickSort(int[] numbers, int lowIndex, int highIndex, RandomGenerator random, int depthLimit) {
+		
+		while (lowIndex < highIndex) {
+			
+			if (depthLimit-- == 0) {
+				
+				heapSort(numbers, lowIndex, highIndex + 1);
+				
+				return;
+			}
+			
+			int pivotIndex = random.nextInt(lowIndex, highIndex);
+			int pivot = numbers[pivotIndex];
+			
+			quickSwap(numbers, pivotIndex, highIndex);
+			
+			int leftPointer = quickPartition(numbers, lowIndex, highIndex, pivot);
+			
+			// Recurse into the smaller side and loop on the larger one to keep the stack depth logarithmic.
+			if (leftPointer - lowIndex < highIndex - leftPointer) {
+				
+				quickSort(numbers, lowIndex, leftPointer - 1, random, depthLimit);
+				
+				lowIndex = leftPointer + 1;
+				
+			} else {
+				
+				quickSort(numbers, leftPointer + 1, highIndex, random, depthLimit);
+				
+				highIndex = leftPointer - 1;
+			}
+		}
+	}
+	
+	/**
+	 * Partitions the array around the pivot, which must be at the high index.
+	 * <p>
+	 * Both scans stop on elements equal to the pivot and swap them, so equal keys end up spread over both sides.
+	 *
+	 * @param array     The array to partition.
+	 * @param lowIndex  The low index of the array.
+	 * @param highIndex The high index of the array.
+	 * @param pivot     The pivot to partition around.
+	 * @return The index of the pivot.
+	 */
+	private static int quickPartition(int[] array, int lowIndex, int highIndex, int pivot) {
+		
+		int leftPointer = lowIndex - 1;
+		int rightPointer = highIndex;
+		
+		while (true) {
+			
+			// The pivot at the high index stops the left scan.
+			do leftPointer++; while (array[leftPointer] < pivot);
+			do rightPointer--; while (rightPointer > lowIndex && array[rightPointer] > pivot);
+			
+			if (leftPointer >= rightPointer) break;
+			
+			quickSwap(array, leftPointer, rightPointer);
+		}
+		
+		quickSwap(array, leftPointer, highIndex);
+		
+		return leftPointer;
+	}
+	
+	/**
+	 * Sorts a range of an array using quick sort with three-way partitioning.
+	 *
+	 * @param numbers    The array of numbers to sort.
+	 * @param fromIndex  The index of the first element, inclusive.
+	 * @param toIndex    The index of the last element, exclusive.
+	 * @param depthLimit The number of partitioning levels left before falling back to heap sort.
+	 */
+	private static void threeWayQuickSort(int[] numbers, int fromIndex, int toIndex, int depthLimit) {
+		
+		while (toIndex - fromIndex > INSERTION_SORT_THRESHOLD) {
+			
+			if (depthLimit-- == 0) {
+				
+				heapSort(numbers, fromIndex, toIndex);
+				
+				return;
+			}
+			
+			int pivot = numbers[choosePivot(numbers, fromIndex, toIndex)];
+			
+			// Invariant: [fromIndex, lessIndex) < pivot, [lessIndex, i) == pivot, [greaterIndex, toIndex) > pivot.
+			int lessIndex = fromIndex;
+			int greaterIndex = toIndex;
+			int i = fromIndex;
+			
+			while (i < greaterIndex) {
+				
+				int value = numbers[i];
+				
+				if (value < pivot) {
+					
+					quickSwap(numbers, lessIndex++, i++);
+					
+				} else if (value > pivot) {
+					
+					quickSwap(numbers, i, --greaterIndex);
+					
+				} else {
+					
+					i++;
+				}
+			}
+			
+			// Recurse into the smaller side and loop on the larger one to keep the stack depth logarithmic.
+			if (lessIndex - fromIndex < toIndex - greaterIndex) {
+				
+				threeWayQuickSort(numbers, fromIndex, lessIndex, depthLimit);
+				
+				fromIndex = greaterIndex;
+				
+			} else {
+				
+				threeWayQuickSort(numbers, greaterIndex, toIndex, depthLimit);
+				
+				toIndex = lessIndex;
+			}
+		}
+		
+		networkSort(numbers, fromIndex, toIndex);
+	}
+	
+	/**
+	 * Sorts a range of an array using dual-pivot quick sort.
+	 *
+	 * @param numbers    The array of numbers to sort.
+	 * @param fromIndex  The index of the first element, inclusive.
+	 * @param toIndex    The index of the last element, exclusive.
+	 * @param depthLimit The number of partitioning levels left before falling back to heap sort.
+	 */
+	private static void dualPivotQuickSort(int[] numbers, int fromIndex, int toIndex, int depthLimit) {
+		
+		while (toIndex - fromIndex > INSERTION_SORT_THRESHOLD) {
+			
+			if (depthLimit-- == 0) {
+				
+				heapSort(numbers, fromIndex, toIndex);
+				
+				return;
+			}
+			
+			int lastIndex = toIndex - 1;
+			int third = (toIndex - fromIndex) / 3;
+			
+			// Take the pivots from the tertiles, so presorted input still splits evenly.
+			int lowPivotIndex = fromIndex + third;
+			int highPivotIndex = lastIndex - third;
+			
+			if (numbers[lowPivotIndex] > numbers[highPivotIndex]) quickSwap(numbers, lowPivotIndex, highPivotIndex);
+			
+			quickSwap(numbers, fromIndex, lowPivotIndex);
+			quickSwap(numbers, lastIndex, highPivotIndex);
+			
+			int lowPivot = numbers[fromIndex];
+			int highPivot = numbers[lastIndex];
+			
+			// Invariant: (fromIndex, lessIndex) < lowPivot, [lessIndex, k) in between, (greaterIndex, lastIndex) > highPivot.
+			int lessIndex = fromIndex + 1;
+			int greaterIndex = lastIndex - 1;
+			
+			for (int k = lessIndex; k <= greaterIndex; k++) {
+				
+				if (numbers[k] < lowPivot) {
+					
+					quickSwap(numbers, k, lessIndex++);
+					
+				} else if (numbers[k] > highPivot) {
+					
+					while (numbers[greaterIndex] > highPivot && k < greaterIndex) greaterIndex--;
+					
+					quickSwap(numbers, k, greaterIndex--);
+					
+					if (numbers[k] < lowPivot) quickSwap(numbers, k, lessIndex++);
+				}
+			}
+			
+			// Move the pivots into their final positions.
+			quickSwap(numbers, fromIndex, --lessIndex);
+			quickSwap(numbers, lastIndex, ++greaterIndex);
+			
+			// The middle part is [middleFrom, middleTo), empty when both pivots are equal.
+			int middleFrom = lessIndex + 1;
+			int middleTo = lowPivot < highPivot ? greaterIndex : middleFrom;
+			
+			// A large middle part usually means many keys equal to a pivot, which would come back as the same
+			// pivots next round, so sweep them to the ends of the middle part where they are already in place.
+			if (middleTo - middleFrom > (toIndex - fromIndex) >> 1) {
+				
+				int lastMiddle = middleTo - 1;
+				
+				for (int k = middleFrom; k <= lastMiddle; k++) {
+					
+					if (numbers[k] == lowPivot) {
+						
+						quickSwap(numbers, k, middleFrom++);
+						
+					} else if (numbers[k] == highPivot) {
+						
+						while (numbers[lastMiddle] == highPivot && k < lastMiddle) lastMiddle--;
+						
+						quickSwap(numbers, k, lastMiddle--);
+						
+						if (numbers[k] == lowPivot) quickSwap(numbers, k, middleFrom++);
+					}
+				}
+				
+				middleTo = lastMiddle + 1;
+			}
+			
+			int leftLength = lessIndex - fromIndex;
+			int middleLength = middleTo - middleFrom;
+			int rightLength = toIndex - greaterIndex - 1;
+			
+			// Recurse into the two smaller parts and loop on the largest one to keep the stack depth logarithmic.
+			if (leftLength >= middleLength && leftLength >= rightLength) {
+				
+				if (middleLength > 0) dualPivotQuickSort(numbers, middleFrom, middleTo, depthLimit);
+				
+				dualPivotQuickSort(numbers, greaterIndex + 1, toIndex, depthLimit);
+				
+				toIndex = lessIndex;
+				
+			} else if (rightLength >= middleLength) {
+				
+				dualPivotQuickSort(numbers, fromIndex, lessIndex, depthLimit);
+				
+				if (middleLength > 0) dualPivotQuickSort(numbers, middleFrom, middleTo, depthLimit);
+				
+				fromIndex = greaterIndex + 1;
+				
+			} else {
+				
+				dualPivotQuickSort(numbers, fromIndex, lessIndex, depthLimit);
+				dualPivotQuickSort(numbers, greaterIndex + 1, toIndex, depthLimit);
+				
+				fromIndex = middleFrom;
+				toIndex = middleTo;
+			}
+		}
+		
+		networkSort(numbers, fromIndex, toIndex);
+	}
+	
+	/**
+	 * Swaps two elements in an array.
+	 *
+	 * @param numbers The array of numbers.
+	 * @param index1  The index of the first element.
+	 * @param index2  The index of the second element.
+	 */
+	private static void quickSwap(int[] numbers, int index1, int index2) {
+		
+		int temp = numbers[index1];
+		
+		numbers[index1] = numbers[index2];
+		numbers[index2] = temp;
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the introsort algorithm.
+	 * <p>
+	 * Quick sort with median-of-three (or ninther for large ranges) pivots, which switches to a sorting network
+	 * for small ranges and to heap sort once the recursion gets deeper than {@code 2 * log2(n)},
+	 * guaranteeing {@code O(n log n)} time in the worst case.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void introSort(int[] numbers) {
+		
+		introSort(numbers, 0, numbers.length, 2 * log2(numbers.length));
+	}
+	
+	/**
+	 * Sorts a range of an array using the introsort algorithm.
+	 *
+	 * @param numbers    The array of numbers to sort.
+	 * @param fromIndex  The index of the first element, inclusive.
+	 * @param toIndex    The index of the last element, exclusive.
+	 * @param depthLimit The number of partitioning levels left before falling back to heap sort.
+	 */
+	private static void introSort(int[] numbers, int fromIndex, int toIndex, int depthLimit) {
+		
+		while (toIndex - fromIndex > INSERTION_SORT_THRESHOLD) {
+			
+			if (depthLimit-- == 0) {
+				
+				heapSort(numbers, fromIndex, toIndex);
+				
+				return;
+			}
+			
+			int splitIndex = introPartition(numbers, fromIndex, toIndex);
+			
+			// Recurse into the smaller side and loop on the larger one to keep the stack depth logarithmic.
+			if (splitIndex - fromIndex < toIndex - splitIndex) {
+				
+				introSort(numbers, fromIndex, splitIndex, depthLimit);
+				
+				fromIndex = splitIndex;
+				
+			} else {
+				
+				introSort(numbers, splitIndex, toIndex, depthLimit);
+				
+				toIndex = splitIndex;
+			}
+		}
+		
+		networkSort(numbers, fromIndex, toIndex);
+	}
+	
+	/**
+	 * Partitions a range of an array around a median-of-three or ninther pivot using Hoare's scheme.
+	 * <p>
+	 * Elements equal to the pivot stop both pointers, so ranges of repeated values are split evenly.
+	 *
+	 * @param numbers   The array to partition.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 * @return The split index, every element before it is less than or equal to every element from it.
+	 */
+	private static int introPartition(int[] numbers, int fromIndex, int toIndex) {
+		
+		quickSwap(numbers, fromIndex, choosePivot(numbers, fromIndex, toIndex));
+		
+		int pivot = numbers[fromIndex];
+		
+		int leftPointer = fromIndex - 1;
+		int rightPointer = toIndex;
+		
+		while (true) {
+			
+			do leftPointer++; while (numbers[leftPointer] < pivot);
+			do rightPointer--; while (numbers[rightPointer] > pivot);
+			
+			if (leftPointer >= rightPointer) return rightPointer + 1;
+			
+			quickSwap(numbers, leftPointer, rightPointer);
+		}
+	}
+	
+	/**
+	 * Choose a pivot index for a range, using the median of three for small ranges and the ninther for large ones.
+	 *
+	 * @param numbers   The array to choose the pivot from.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 * @return The index of the chosen pivot.
+	 */
+	private static int choosePivot(int[] numbers, int fromIndex, int toIndex) {
+		
+		int length = toIndex - fromIndex;
+		
+		int lowIndex = fromIndex;
+		int middleIndex = fromIndex + (length >>> 1);
+		int highIndex = toIndex - 1;
+		
+		if (length > 128) {
+			
+			int step = length >>> 3;
+			
+			lowIndex = medianOfThree(numbers, lowIndex, lowIndex + step, lowIndex + 2 * step);
+			middleIndex = medianOfThree(numbers, middleIndex - step, middleIndex, middleIndex + step);
+			highIndex = medianOfThree(numbers, highIndex - 2 * step, highIndex - step, highIndex);
+		}
+		
+		return medianOfThree(numbers, lowIndex, middleIndex, highIndex);
+	}
+	
+	/**
+	 * Get the index of the median of three elements.
+	 *
+	 * @param numbers The array of numbers.
+	 * @param a       The index of the first element.
+	 * @param b       The index of the second element.
+	 * @param c       The index of the third element.
+	 * @return The index of the median element.
+	 */
+	private static int medianOfThree(int[] numbers, int a, int b, int c) {
+		
+		if (numbers[a] < numbers[b]) {
+			
+			if (numbers[b] < numbers[c]) return b;
+			
+			return numbers[a] < numbers[c] ? c : a;
+		}
+		
+		if (numbers[a] < numbers[c]) return a;
+		
+		return numbers[b] < numbers[c] ? c : b;
+	}
+	
+	/**
+	 * Get the floor of the base 2 logarithm of a positive number, or 0 if it is not positive.
+	 *
+	 * @param n The number.
+	 * @return The floor of the base 2 logarithm of the number.
+	 */
+	static int log2(int n) {
+		
+		return n > 0 ? 31 - Integer.numberOfLeadingZeros(n) : 0;
+	}
+	
+	/**
+	 * Get the floor of the base 2 logarithm of a positive number, or 0 if it is not positive.
+	 *
+	 * @param n The number.
+	 * @return The floor of the base 2 logarithm of the number.
+	 */
+	static int log2(long n) {
+		
+		return n > 0 ? 63 - Long.numberOfLeadingZeros(n) : 0;
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the merge sort algorithm.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 * @see #mergeSort(int[], int[])
+	 */
+	public static void mergeSort(int[] numbers) {
+		
+		if (numbers.length < 2) return;
+		
+		mergeSort(numbers, new int[numbers.length]);
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the merge sort algorithm and a caller supplied workspace.
+	 * <p>
+	 * The sort alternates between the array and the workspace at every level instead of allocating new halves,
+	 * so reusing the same workspace across calls means sorting allocates nothing.
+	 *
+	 * @param numbers   The array of numbers to sort.
+	 * @param workspace The scratch buffer, at least as long as the array. Its contents are overwritten.
+	 * @throws IllegalArgumentException If the workspace is shorter than the array throw this exception.
+	 */
+	public static void mergeSort(int[] numbers, int[] workspace) {
+		
+		int length = numbers.length;
+		
+		if (workspace.length < length)
+			
+			throw new IllegalArgumentException("The workspace must be at least as long as the array.");
+		
+		if (length < 2) return;
+		
+		System.arraycopy(numbers, 0, workspace, 0, length);
+		
+		mergeSort(workspace, numbers, 0, length);
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using a parallel merge sort on the common fork-join pool.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 * @see #parallelMergeSort(int[], int, int)
+	 */
+	public static void parallelMergeSort(int[] numbers) {
+		
+		parallelMergeSort(numbers, ForkJoinPool.getCommonPoolParallelism());
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using a parallel merge sort.
+	 *
+	 * @param numbers     The array of numbers to sort.
+	 * @param parallelism The number of threads to sort with.
+	 * @see #parallelMergeSort(int[], int, int)
+	 */
+	public static void parallelMergeSort(int[] numbers, int parallelism) {
+		
+		parallelMergeSort(numbers, parallelism, PARALLEL_CUTOFF);
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using a parallel merge sort.
+	 * <p>
+	 * The array is split recursively on a fork-join pool until the ranges are no larger than the cutoff,
+	 * at which point they are sorted sequentially. Merges larger than the cutoff are split in parallel too,
+	 * at the middle of the longer range and the matching position in the other, so no single thread has to
+	 * merge the whole array and the speedup keeps growing with the number of threads.
+	 * A single scratch buffer the size of the array is allocated up front and shared by every task.
+	 *
+	 * @param numbers     The array of numbers to sort.
+	 * @param parallelism The number of threads to sort with.
+	 * @param cutoff      The size at or below which a range is sorted sequentially.
+	 * @throws IllegalArgumentException If the parallelism is less than 1 or the cutoff is less than 2 throw this exception.
+	 */
+	public static void parallelMergeSort(int[] numbers, int parallelism, int cutoff) {
+		
+		if (parallelism < 1)
+			
+			throw new IllegalArgumentException("The parallelism must be at least 1.");
+		
+		if (cutoff < 2)
+			
+			throw new IllegalArgumentException("The cutoff must be at least 2.");
+		
+		int length = numbers.length;
+		
+		if (length < 2) return;
+		
+		int[] buffer = numbers.clone();
+		
+		if (parallelism == 1 || length <= cutoff) {
+			
+			mergeSort(buffer, numbers, 0, length);
+			
+			return;
+		}
+		
+		invoke(new MergeSortTask(buffer, numbers, 0, length, cutoff), parallelism);
+	}
+	
+	/**
+	 * Run a fork-join task to completion with the given parallelism.
+	 * <p>
+	 * The common pool is used when its parallelism matches, otherwise a pool is created for the task and shut down afterwards.
+	 *
+	 * @param task        The task to run.
+	 * @param parallelism The number of threads to run the task with.
+	 * @param <T>         The type of the result of the task.
+	 * @return The result of the task.
+	 */
+	private static <T> T invoke(ForkJoinTask<T> task, int parallelism) {
+		
+		if (parallelism == ForkJoinPool.getCommonPoolParallelism()) return ForkJoinPool.commonPool().invoke(task);
+		
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		
+		try {
+			
+			return pool.invoke(task);
+			
+		} finally {
+			
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Sorts a range of the source array into the same range of the target array using the merge sort algorithm.
+	 * <p>
+	 * Both arrays must hold the same elements in the range when called. The source is used as scratch space,
+	 * and the roles of the two arrays are swapped at every level so no copying back is needed.
+	 *
+	 * @param source    The array to sort from.
+	 * @param target    The array the sorted range is written to.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void mergeSort(int[] source, int[] target, int fromIndex, int toIndex) {
+		
+		if (toIndex - fromIndex <= INSERTION_SORT_THRESHOLD) {
+			
+			networkSort(target, fromIndex, toIndex);
+			
+			return;
+		}
+		
+		int middleIndex = (fromIndex + toIndex) >>> 1;
+		
+		mergeSort(target, source, fromIndex, middleIndex);
+		mergeSort(target, source, middleIndex, toIndex);
+		
+		merge(source, target, fromIndex, middleIndex, toIndex);
+	}
+	
+	/**
+	 * Merge two adjacent sorted ranges of the source array into the target array.
+	 *
+	 * @param source      The array containing both sorted ranges.
+	 * @param target      The array the merged range is written to.
+	 * @param fromIndex   The index of the first element of the left range, inclusive.
+	 * @param middleIndex The index of the first element of the right range.
+	 * @param toIndex     The index of the last element of the right range, exclusive.
+	 */
+	private static void merge(int[] source, int[] target, int fromIndex, int middleIndex, int toIndex) {
+		
+		// The ranges are already in order, so there is nothing to merge.
+		if (source[middleIndex - 1] <= source[middleIndex]) {
+			
+			System.arraycopy(source, fromIndex, target, fromIndex, toIndex - fromIndex);
+			
+			return;
+		}
+		
+		int i = fromIndex, j = middleIndex, k = fromIndex;
+		
+		while (i < middleIndex && j < toIndex) {
+			
+			target[k++] = source[i] <= source[j] ? source[i++] : source[j++];
+		}
+		
+		// At most one of the ranges has elements left.
+		System.arraycopy(source, i, target, k, middleIndex - i);
+		System.arraycopy(source, j, target, k, toIndex - j);
+	}
+	
+	/**
+	 * Merge two sorted ranges of the source array into the target array, starting at the given index.
+	 *
+	 * @param source      The array containing both sorted ranges.
+	 * @param target      The array the merged ranges are written to.
+	 * @param leftFrom    The index of the first element of the left range, inclusive.
+	 * @param leftTo      The index of the last element of the left range, exclusive.
+	 * @param rightFrom   The index of the first element of the right range, inclusive.
+	 * @param rightTo     The index of the last element of the right range, exclusive.
+	 * @param targetIndex The index in the target array to write the first merged element to.
+	 */
+	private static void merge(int[] source, int[] target, int leftFrom, int leftTo, int rightFrom, int rightTo, int targetIndex) {
+		
+		int i = leftFrom, j = rightFrom, k = targetIndex;
+		
+		while (i < leftTo && j < rightTo) {
+			
+			target[k++] = source[i] <= source[j] ? source[i++] : source[j++];
+		}
+		
+		// At most one of the ranges has elements left.
+		System.arraycopy(source, i, target, k, leftTo - i);
+		System.arraycopy(source, j, target, k, rightTo - j);
+	}
+	
+	/**
+	 * A fork-join task that merge sorts a range of an array.
+	 */
+	private static final class MergeSortTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] source;
+		private final int[] target;
+		private final int fromIndex;
+		private final int toIndex;
+		private final int cutoff;
+		
+		private MergeSortTask(int[] source, int[] target, int fromIndex, int toIndex, int cutoff) {
+			
+			this.source = source;
+			this.target = target;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+			this.cutoff = cutoff;
+		}
+		
+		@Override
+		protected void compute() {
+			
+			if (toIndex - fromIndex <= cutoff) {
+				
+				mergeSort(source, target, fromIndex, toIndex);
+				
+				return;
+			}
+			
+			int middleIndex = (fromIndex + toIndex) >>> 1;
+			
+			invokeAll(new MergeSortTask(target, source, fromIndex, middleIndex, cutoff),
+					new MergeSortTask(target, source, middleIndex, toIndex, cutoff));
+			
+			// The halves are already in order, so there is nothing to merge.
+			if (source[middleIndex - 1] <= source[middleIndex]) {
+				
+				System.arraycopy(source, fromIndex, target, fromIndex, toIndex - fromIndex);
+				
+				return;
+			}
+			
+			new MergeTask(source, target, fromIndex, middleIndex, middleIndex, toIndex, fromIndex, cutoff).invoke();
+		}
+	}
+	
+	/**
+	 * A fork-join task that merges two sorted ranges of an array, splitting itself while the ranges are large.
+	 */
+	private static final class MergeTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] source;
+		private final int[] target;
+		private final int leftFrom;
+		private final int leftTo;
+		private final int rightFrom;
+		private final int rightTo;
+		private final int targetIndex;
+		private final int cutoff;
+		
+		private MergeTask(int[] source, int[] target, int leftFrom, int leftTo, int rightFrom, int rightTo, int targetIndex, int cutoff) {
+			
+			this.source = source;
+			this.target = target;
+			this.leftFrom = leftFrom;
+			this.leftTo = leftTo;
+			this.rightFrom = rightFrom;
+			this.rightTo = rightTo;
+			this.targetIndex = targetIndex;
+			this.cutoff = cutoff;
+		}
+		
+		@Override
+		protected void compute() {
+			
+			int leftLength = leftTo - leftFrom;
+			int rightLength = rightTo - rightFrom;
+			
+			if (leftLength + rightLength <= cutoff) {
+				
+				merge(source, target, leftFrom, leftTo, rightFrom, rightTo, targetIndex);
+				
+				return;
+			}
+			
+			// Split the longer range in half and find where its middle element goes in the other one.
+			// Equal elements from the left range stay before those from the right one, so the merge remains stable.
+			int leftSplit, rightSplit;
+			
+			if (leftLength >= rightLength) {
+				
+				leftSplit = (leftFrom + leftTo) >>> 1;
+				rightSplit = lowerBound(source, rightFrom, rightTo, source[leftSplit]);
+				
+			} else {
+				
+				rightSplit = (rightFrom + rightTo) >>> 1;
+				leftSplit = upperBound(source, leftFrom, leftTo, source[rightSplit]);
+			}
+			
+			int targetSplit = targetIndex + (leftSplit - leftFrom) + (rightSplit - rightFrom);
+			
+			invokeAll(new MergeTask(source, target, leftFrom, leftSplit, rightFrom, rightSplit, targetIndex, cutoff),
+					new MergeTask(source, target, leftSplit, leftTo, rightSplit, rightTo, targetSplit, cutoff));
+		}
+		
+		/**
+		 * Find the first index in a sorted range whose element is not less than the key.
+		 *
+		 * @param numbers   The sorted array.
+		 * @param fromIndex The index of the first element, inclusive.
+		 * @param toIndex   The index of the last element, exclusive.
+		 * @param key       The key to search for.
+		 * @return The index, or the end of the range if there is no such element.
+		 */
+		private static int lowerBound(int[] numbers, int fromIndex, int toIndex, int key) {
+			
+			while (fromIndex < toIndex) {
+				
+				int middleIndex = (fromIndex + toIndex) >>> 1;
+				
+				if (numbers[middleIndex] < key) fromIndex = middleIndex + 1;
+				else toIndex = middleIndex;
+			}
+			
+			return fromIndex;
+		}
+		
+		/**
+		 * Find the first index in a sorted range whose element is greater than the key.
+		 *
+		 * @param numbers   The sorted array.
+		 * @param fromIndex The index of the first element, inclusive.
+		 * @param toIndex   The index of the last element, exclusive.
+		 * @param key       The key to search for.
+		 * @return The index, or the end of the range if there is no such element.
+		 */
+		private static int upperBound(int[] numbers, int fromIndex, int toIndex, int key) {
+			
+			while (fromIndex < toIndex) {
+				
+				int middleIndex = (fromIndex + toIndex) >>> 1;
+				
+				if (numbers[middleIndex] <= key) fromIndex = middleIndex + 1;
+				else toIndex = middleIndex;
+			}
+			
+			return fromIndex;
+		}
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using an adaptive merge sort in the style of TimSort.
+	 * <p>
+	 * Ascending and strictly descending runs already present in the input are detected and used as they are,
+	 * with descending runs reversed in place. Runs shorter than a minimum length are extended with binary
+	 * insertion sort, and the runs are merged with galloping, which copies long stretches from one run in bulk
+	 * once it keeps winning. Presorted or append-mostly data sorts in close to linear time. The sort is stable.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void timSort(int[] numbers) {
+		
+		int length = numbers.length;
+		
+		if (length < 2) return;
+		
+		if (length < INSERTION_SORT_THRESHOLD) {
+			
+			binaryInsertionSort(numbers, 0, length, countRunAndMakeAscending(numbers, 0, length));
+			
+			return;
+		}
+		
+		new TimSorter(numbers).sort();
+	}
+	
+	/**
+	 * Find the length of the run starting at the beginning of a range, reversing it if it is strictly descending.
+	 *
+	 * @param numbers   The array of numbers.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 * @return The length of the run, which is now ascending.
+	 */
+	private static int countRunAndMakeAscending(int[] numbers, int fromIndex, int toIndex) {
+		
+		int runEnd = fromIndex + 1;
+		
+		if (runEnd == toIndex) return 1;
+		
+		if (numbers[runEnd++] < numbers[fromIndex]) {
+			
+			// Only strictly descending runs are reversed, so equal elements keep their order.
+			while (runEnd < toIndex && numbers[runEnd] < numbers[runEnd - 1]) runEnd++;
+			
+			reverse(numbers, fromIndex, runEnd);
+			
+		} else {
+			
+			while (runEnd < toIndex && numbers[runEnd] >= numbers[runEnd - 1]) runEnd++;
+		}
+		
+		return runEnd - fromIndex;
+	}
+	
+	/**
+	 * Reverse a range of an array.
+	 *
+	 * @param numbers   The array of numbers.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void reverse(int[] numbers, int fromIndex, int toIndex) {
+		
+		for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
+			
+			quickSwap(numbers, i, j);
+		}
+	}
+	
+	/**
+	 * Sorts a range of an array whose beginning is already sorted using binary insertion sort.
+	 *
+	 * @param numbers    The array of numbers to sort.
+	 * @param fromIndex  The index of the first element, inclusive.
+	 * @param toIndex    The index of the last element, exclusive.
+	 * @param startIndex The index of the first element that is not known to be sorted.
+	 */
+	private static void binaryInsertionSort(int[] numbers, int fromIndex, int toIndex, int startIndex) {
+		
+		for (int i = startIndex; i < toIndex; i++) {
+			
+			int currentValue = numbers[i];
+			
+			int lowIndex = fromIndex;
+			int highIndex = i;
+			
+			// Insert after any equal elements to keep the sort stable.
+			while (lowIndex < highIndex) {
+				
+				int middleIndex = (lowIndex + highIndex) >>> 1;
+				
+				if (currentValue < numbers[middleIndex]) highIndex = middleIndex;
+				else lowIndex = middleIndex + 1;
+			}
+			
+			System.arraycopy(numbers, lowIndex, numbers, lowIndex + 1, i - lowIndex);
+			
+			numbers[lowIndex] = currentValue;
+		}
+	}
+	
+	/**
+	 * The state of a single adaptive merge sort, the stack of pending runs and the galloping threshold.
+	 */
+	private static final class TimSorter {
+		
+		/**
+		 * The number of consecutive wins after which a merge switches to galloping.
+		 */
+		private static final int MIN_GALLOP = 7;
+		
+		private final int[] numbers;
+		
+		/**
+		 * The scratch buffer, large enough for the shorter run of the current merge.
+		 */
+		private int[] buffer;
+		
+		/**
+		 * The current galloping threshold, raised when galloping does not pay off and lowered when it does.
+		 */
+		private int minGallop = MIN_GALLOP;
+		
+		/**
+		 * The pending runs. The merge rules keep run lengths growing at least as fast as the Fibonacci numbers
+		 * from the top of the stack down, so 49 entries are enough for any array.
+		 */
+		private final int[] runBases = new int[49];
+		private final int[] runLengths = new int[49];
+		private int runCount;
+		
+		private TimSorter(int[] numbers) {
+			
+			this.numbers = numbers;
+			this.buffer = new int[Math.min(256, numbers.length >>> 1)];
+		}
+		
+		/**
+		 * Sorts the array.
+		 */
+		private void sort() {
+			
+			int lowIndex = 0;
+			int remaining = numbers.length;
+			int minRun = minRunLength(remaining);
+			
+			do {
+				
+				int runLength = countRunAndMakeAscending(numbers, lowIndex, lowIndex + remaining);
+				
+				// Extend short runs to the minimum length.
+				if (runLength < minRun) {
+					
+					int forcedLength = Math.min(remaining, minRun);
+					
+					binaryInsertionSort(numbers, lowIndex, lowIndex + forcedLength, lowIndex + runLength);
+					
+					runLength = forcedLength;
+				}
+				
+				runBases[runCount] = lowIndex;
+				runLengths[runCount] = runLength;
+				runCount++;
+				
+				mergeCollapse();
+				
+				lowIndex += runLength;
+				remaining -= runLength;
+				
+			} while (remaining != 0);
+			
+			while (runCount > 1) {
+				
+				int n = runCount - 2;
+				
+				if (n > 0 && runLengths[n - 1] < runLengths[n + 1]) n--;
+				
+				mergeAt(n);
+			}
+		}
+		
+		/**
+		 * Get the minimum run length, chosen so the number of runs is a power of two or slightly less than one.
+		 *
+		 * @param length The length of the array.
+		 * @return The minimum run length.
+		 */
+		private static int minRunLength(int length) {
+			
+			int remainder = 0;
+			
+			while (length >= INSERTION_SORT_THRESHOLD) {
+				
+				remainder |= length & 1;
+				length >>= 1;
+			}
+			
+			return length + remainder;
+		}
+		
+		/**
+		 * Merge runs on the top of the stack until their lengths shrink faster than the Fibonacci numbers again.
+		 */
+		private void mergeCollapse() {
+			
+			while (runCount > 1) {
+				
+				int n = runCount - 2;
+				
+				if (n > 0 && runLengths[n - 1] <= runLengths[n] + runLengths[n + 1]
+						|| n > 1 && runLengths[n - 2] <= runLengths[n] + runLengths[n - 1]) {
+					
+					if (runLengths[n - 1] < runLengths[n + 1]) n--;
+					
+				} else if (runLengths[n] > runLengths[n + 1]) {
+					
+					break;
+				}
+				
+				mergeAt(n);
+			}
+		}
+		
+		/**
+		 * Merge the run at the given stack index with the one after it.
+		 *
+		 * @param i The stack index of the first run, either the second or third from the top.
+		 */
+		private void mergeAt(int i) {
+			
+			int base1 = runBases[i];
+			int length1 = runLengths[i];
+			int base2 = runBases[i + 1];
+			int length2 = runLengths[i + 1];
+			
+			runLengths[i] = length1 + length2;
+			
+			if (i == runCount - 3) {
+				
+				runBases[i + 1] = runBases[i + 2];
+				runLengths[i + 1] = runLengths[i + 2];
+			}
+			
+			runCount--;
+			
+			// Elements of the first run that are not greater than the start of the second are already in place.
+			int skipped = gallopRight(numbers[base2], numbers, base1, length1, 0);
+			
+			base1 += skipped;
+			length1 -= skipped;
+			
+			if (length1 == 0) return;
+			
+			// So are elements of the second run that are not less than the end of the first.
+			length2 = gallopLeft(numbers[base1 + length1 - 1], numbers, base2, length2, length2 - 1);
+			
+			if (length2 == 0) return;
+			
+			if (length1 <= length2) mergeLow(base1, length1, base2, length2);
+			else mergeHigh(base1, length1, base2, length2);
+		}
+		
+		/**
+		 * Merge two adjacent runs from the front, copying the shorter first run to the buffer.
+		 *
+		 * @param base1   The index of the first run.
+		 * @param length1 The length of the first run, its last element is greater than every element of the second.
+		 * @param base2   The index of the second run.
+		 * @param length2 The length of the second run, its first element is less than every element of the first.
+		 */
+		private void mergeLow(int base1, int length1, int base2, int length2) {
+			
+			int[] numbers = this.numbers;
+			int[] buffer = ensureCapacity(length1);
+			
+			System.arraycopy(numbers, base1, buffer, 0, length1);
+			
+			int cursor1 = 0;
+			int cursor2 = base2;
+			int destination = base1;
+			
+			numbers[destination++] = numbers[cursor2++];
+			
+			if (--length2 == 0) {
+				
+				System.arraycopy(buffer, cursor1, numbers, destination, length1);
+				
+				return;
+			}
+			
+			if (length1 == 1) {
+				
+				System.arraycopy(numbers, cursor2, numbers, destination, length2);
+				
+				numbers[destination + length2] = buffer[cursor1];
+				
+				return;
+			}
+			
+			int minGallop = this.minGallop;
+			
+			outer:
+			while (true) {
+				
+				int wins1 = 0;
+				int wins2 = 0;
+				
+				// Merge one element at a time until one run starts winning consistently.
+				do {
+					
+					if (numbers[cursor2] < buffer[cursor1]) {
+						
+						numbers[destination++] = numbers[cursor2++];
+						
+						wins2++;
+						wins1 = 0;
+						
+						if (--length2 == 0) break outer;
+						
+					} else {
+						
+						numbers[destination++] = buffer[cursor1++];
+						
+						wins1++;
+						wins2 = 0;
+						
+						if (--length1 == 1) break outer;
+					}
+					
+				} while ((wins1 | wins2) < minGallop);
+				
+				// Gallop, copying whole stretches of a run at once, until that stops paying off.
+				do {
+					
+					wins1 = gallopRight(numbers[cursor2], buffer, cursor1, length1, 0);
+					
+					if (wins1 != 0) {
+						
+						System.arraycopy(buffer, cursor1, numbers, destination, wins1);
+						
+						destination += wins1;
+						cursor1 += wins1;
+						length1 -= wins1;
+						
+						if (length1 <= 1) break outer;
+					}
+					
+					numbers[destination++] = numbers[cursor2++];
+					
+					if (--length2 == 0) break outer;
+					
+					wins2 = gallopLeft(buffer[cursor1], numbers, cursor2, length2, 0);
+					
+					if (wins2 != 0) {
+						
+						System.arraycopy(numbers, cursor2, numbers, destination, wins2);
+						
+						destination += wins2;
+						cursor2 += wins2;
+						length2 -= wins2;
+						
+						if (length2 == 0) break outer;
+					}
+					
+					numbers[destination++] = buffer[cursor1++];
+					
+					if (--length1 == 1) break outer;
+					
+					minGallop--;
+					
+				} while (wins1 >= MIN_GALLOP | wins2 >= MIN_GALLOP);
+				
+				if (minGallop < 0) minGallop = 0;
+				
+				minGallop += 2;
+			}
+			
+			this.minGallop = Math.max(minGallop, 1);
+			
+			if (length1 == 1) {
+				
+				System.arraycopy(numbers, cursor2, numbers, destination, length2);
+				
+				numbers[destination + length2] = buffer[cursor1];
+				
+			} else {
+				
+				System.arraycopy(buffer, cursor1, numbers, destination, length1);
+			}
+		}
+		
+		/**
+		 * Merge two adjacent runs from the back, copying the shorter second run to the buffer.
+		 *
+		 * @param base1   The index of the first run.
+		 * @param length1 The length of the first run, its last element is greater than every element of the second.
+		 * @param base2   The index of the second run.
+		 * @param length2 The length of the second run, its first element is less than every element of the first.
+		 */
+		private void mergeHigh(int base1, int length1, int base2, int length2) {
+			
+			int[] numbers = this.numbers;
+			int[] buffer = ensureCapacity(length2);
+			
+			System.arraycopy(numbers, base2, buffer, 0, length2);
+			
+			int cursor1 = base1 + length1 - 1;
+			int cursor2 = length2 - 1;
+			int destination = base2 + length2 - 1;
+			
+			numbers[destination--] = numbers[cursor1--];
+			
+			if (--length1 == 0) {
+				
+				System.arraycopy(buffer, 0, numbers, destination - (length2 - 1), length2);
+				
+				return;
+			}
+			
+			if (length2 == 1) {
+				
+				destination -= length1;
+				cursor1 -= length1;
+				
+				System.arraycopy(numbers, cursor1 + 1, numbers, destination + 1, length1);
+				
+				numbers[destination] = buffer[cursor2];
+				
+				return;
+			}
+			
+			int minGallop = this.minGallop;
+			
+			outer:
+			while (true) {
+				
+				int wins1 = 0;
+				int wins2 = 0;
+				
+				// Merge one element at a time until one run starts winning consistently.
+				do {
+					
+					if (buffer[cursor2] < numbers[cursor1]) {
+						
+						numbers[destination--] = numbers[cursor1--];
+						
+						wins1++;
+						wins2 = 0;
+						
+						if (--length1 == 0) break outer;
+						
+					} else {
+						
+						numbers[destination--] = buffer[cursor2--];
+						
+						wins2++;
+						wins1 = 0;
+						
+						if (--length2 == 1) break outer;
+					}
+					
+				} while ((wins1 | wins2) < minGallop);
+				
+				// Gallop, copying whole stretches of a run at once, until that stops paying off.
+				do {
+					
+					wins1 = length1 - gallopRight(buffer[cursor2], numbers, base1, length1, length1 - 1);
+					
+					if (wins1 != 0) {
+						
+						destination -= wins1;
+						cursor1 -= wins1;
+						length1 -= wins1;
+						
+						System.arraycopy(numbers, cursor1 + 1, numbers, destination + 1, wins1);
+						
+						if (length1 == 0) break outer;
+					}
+					
+					numbers[destination--] = buffer[cursor2--];
+					
+					if (--length2 == 1) break outer;
+					
+					wins2 = length2 - gallopLeft(numbers[cursor1], buffer, 0, length2, length2 - 1);
+					
+					if (wins2 != 0) {
+						
+						destination -= wins2;
+						cursor2 -= wins2;
+						length2 -= wins2;
+						
+						System.arraycopy(buffer, cursor2 + 1, numbers, destination + 1, wins2);
+						
+						if (length2 <= 1) break outer;
+					}
+					
+					numbers[destination--] = numbers[cursor1--];
+					
+					if (--length1 == 0) break outer;
+					
+					minGallop--;
+					
+				} while (wins1 >= MIN_GALLOP | wins2 >= MIN_GALLOP);
+				
+				if (minGallop < 0) minGallop = 0;
+				
+				minGallop += 2;
+			}
+			
+			this.minGallop = Math.max(minGallop, 1);
+			
+			if (length2 == 1) {
+				
+				destination -= length1;
+				cursor1 -= length1;
+				
+				System.arraycopy(numbers, cursor1 + 1, numbers, destination + 1, length1);
+				
+				numbers[destination] = buffer[cursor2];
+				
+			} else {
+				
+				System.arraycopy(buffer, 0, numbers, destination - (length2 - 1), length2);
+			}
+		}
+		
+		/**
+		 * Get the scratch buffer, growing it if it cannot hold the given number of elements.
+		 *
+		 * @param capacity The number of elements the buffer must hold.
+		 * @return The scratch buffer.
+		 */
+		private int[] ensureCapacity(int capacity) {
+			
+			if (buffer.length < capacity)
+				
+				buffer = new int[Math.max(capacity, Math.min(buffer.length << 1, numbers.length >>> 1))];
+			
+			return buffer;
+		}
+	}
+	
+	/**
+	 * Find where a key belongs in a sorted range, before any elements equal to it.
+	 * <p>
+	 * The search gallops outwards from the hint in steps of 1, 3, 7, 15 and so on, then binary searches the
+	 * last step, so it is fast when the result is close to the hint.
+	 *
+	 * @param key     The key to find the position of.
+	 * @param numbers The array holding the range.
+	 * @param base    The index of the first element of the range.
+	 * @param length  The length of the range.
+	 * @param hint    The offset in the range to start searching from.
+	 * @return The offset {@code k} in the range such that {@code range[k - 1] < key <= range[k]}.
+	 */
+	private static int gallopLeft(int key, int[] numbers, int base, int length, int hint) {
+		
+		int lastOffset = 0;
+		int offset = 1;
+		
+		if (key > numbers[base + hint]) {
+			
+			int maxOffset = length - hint;
+			
+			while (offset < maxOffset && key > numbers[base + hint + offset]) {
+				
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				
+				if (offset <= 0) offset = maxOffset;
+			}
+			
+			if (offset > maxOffset) offset = maxOffset;
+			
+			lastOffset += hint;
+			offset += hint;
+			
+		} else {
+			
+			int maxOffset = hint + 1;
+			
+			while (offset < maxOffset && key <= numbers[base + hint - offset]) {
+				
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				
+				if (offset <= 0) offset = maxOffset;
+			}
+			
+			if (offset > maxOffset) offset = maxOffset;
+			
+			int temp = lastOffset;
+			
+			lastOffset = hint - offset;
+			offset = hint - temp;
+		}
+		
+		// Now range[lastOffset] < key <= range[offset], so binary search what is left.
+		lastOffset++;
+		
+		while (lastOffset < offset) {
+			
+			int middle = lastOffset + ((offset - lastOffset) >>> 1);
+			
+			if (key > numbers[base + middle]) lastOffset = middle + 1;
+			else offset = middle;
+		}
+		
+		return offset;
+	}
+	
+	/**
+	 * Find where a key belongs in a sorted range, after any elements equal to it.
+	 *
+	 * @param key     The key to find the position of.
+	 * @param numbers The array holding the range.
+	 * @param base    The index of the first element of the range.
+	 * @param length  The length of the range.
+	 * @param hint    The offset in the range to start searching from.
+	 * @return The offset {@code k} in the range such that {@code range[k - 1] <= key < range[k]}.
+	 * @see #gallopLeft(int, int[], int, int, int)
+	 */
+	private static int gallopRight(int key, int[] numbers, int base, int length, int hint) {
+		
+		int lastOffset = 0;
+		int offset = 1;
+		
+		if (key < numbers[base + hint]) {
+			
+			int maxOffset = hint + 1;
+			
+			while (offset < maxOffset && key < numbers[base + hint - offset]) {
+				
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				
+				if (offset <= 0) offset = maxOffset;
+			}
+			
+			if (offset > maxOffset) offset = maxOffset;
+			
+			int temp = lastOffset;
+			
+			lastOffset = hint - offset;
+			offset = hint - temp;
+			
+		} else {
+			
+			int maxOffset = length - hint;
+			
+			while (offset < maxOffset && key >= numbers[base + hint + offset]) {
+				
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				
+				if (offset <= 0) offset = maxOffset;
+			}
+			
+			if (offset > maxOffset) offset = maxOffset;
+			
+			lastOffset += hint;
+			offset += hint;
+		}
+		
+		// Now range[lastOffset] <= key < range[offset], so binary search what is left.
+		lastOffset++;
+		
+		while (lastOffset < offset) {
+			
+			int middle = lastOffset + ((offset - lastOffset) >>> 1);
+			
+			if (key < numbers[base + middle]) offset = middle;
+			else lastOffset = middle + 1;
+		}
+		
+		return offset;
+	}
+	
+	/**
+	 * Sorts the given array using the insertion sort algorithm.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void insertionSort(int[] numbers) {
+		
+		insertionSort(numbers, 0, numbers.length);
+	}
+	
+	/**
+	 * Sorts a range of the given array using the insertion sort algorithm.
+	 *
+	 * @param numbers   The array to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void insertionSort(int[] numbers, int fromIndex, int toIndex) {
+		
+		for (int i = fromIndex + 1; i < toIndex; i++) {
+			
+			int currentValue = numbers[i];
+			
+			int j = i - 1;
+			
+			while (j >= fromIndex && numbers[j] > currentValue) {
+				
+				numbers[j + 1] = numbers[j];
+				
+				j--;
+			}
+			
+			numbers[j + 1] = currentValue;
+		}
+	}
+	
+	/**
+	 * Sorts a small range of an array using a sorting network.
+	 * <p>
+	 * The same fixed sequence of compare-exchanges runs whatever the values are, and each compare-exchange
+	 * is a {@link Math#min(int, int)} and {@link Math#max(int, int)} the JIT turns into conditional moves,
+	 * so unlike insertion sort there are no data-dependent branches to mispredict.
+	 *
+	 * @param numbers   The array to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive, at most the insertion sort threshold past the first.
+	 */
+	private static void networkSort(int[] numbers, int fromIndex, int toIndex) {
+		
+		int[] network = SORTING_NETWORKS[toIndex - fromIndex];
+		
+		for (int i = 0; i < network.length; i += 2) {
+			
+			int firstIndex = fromIndex + network[i];
+			int secondIndex = fromIndex + network[i + 1];
+			
+			int first = numbers[firstIndex];
+			int second = numbers[secondIndex];
+			
+			numbers[firstIndex] = Math.min(first, second);
+			numbers[secondIndex] = Math.max(first, second);
+		}
+	}
+	
+	/**
+	 * Build Batcher's odd-even merge sort network for every size up to the given one.
+	 * <p>
+	 * A size that is not a power of two uses the network of the next power of two with the comparators
+	 * touching the missing positions left out, which still sorts as the missing values act as infinities.
+	 *
+	 * @param maxSize The largest size to build a network for.
+	 * @return The comparators of each network as consecutive pairs of offsets, indexed by size.
+	 */
+	private static int[][] buildSortingNetworks(int maxSize) {
+		
+		int[][] networks = new int[maxSize + 1][];
+		
+		for (int size = 0; size <= maxSize; size++) {
+			
+			int[] comparators = new int[size * size];
+			int count = 0;
+			
+			for (int p = 1; p < size; p <<= 1) {
+				
+				for (int k = p; k >= 1; k >>= 1) {
+					
+					for (int j = k % p; j + k < size; j += 2 * k) {
+						
+						for (int i = 0; i < Math.min(k, size - j - k); i++) {
+							
+							// Only compare elements within the same pair of merged blocks.
+							if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+								
+								comparators[count++] = i + j;
+								comparators[count++] = i + j + k;
+							}
+						}
+					}
+				}
+			}
+			
+			networks[size] = Arrays.copyOf(comparators, count);
+		}
+		
+		return networks;
+	}
+	
+	/**
+	 * Sorts the given array using the heap sort algorithm.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void heapSort(int[] numbers) {
+		
+		heapSort(numbers, 0, numbers.length);
+	}
+	
+	/**
+	 * Sorts a range of the given array using the heap sort algorithm.
+	 *
+	 * @param numbers   The array to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void heapSort(int[] numbers, int fromIndex, int toIndex) {
+		
+		int length = toIndex - fromIndex;
+		
+		for (int i = (length >>> 1) - 1; i >= 0; i--) {
+			
+			siftDown(numbers, fromIndex, i, length);
+		}
+		
+		for (int end = length - 1; end > 0; end--) {
+			
+			quickSwap(numbers, fromIndex, fromIndex + end);
+			
+			siftDown(numbers, fromIndex, 0, end);
+		}
+	}
+	
+	/**
+	 * Restore the max-heap property below an element of a heap stored in a range of an array.
+	 *
+	 * @param numbers The array holding the heap.
+	 * @param offset  The index of the root of the heap in the array.
+	 * @param index   The heap index of the element to sift down.
+	 * @param length  The number of elements in the heap.
+	 */
+	private static void siftDown(int[] numbers, int offset, int index, int length) {
+		
+		int value = numbers[offset + index];
+		
+		int child;
+		
+		while ((child = 2 * index + 1) < length) {
+			
+			if (child + 1 < length && numbers[offset + child + 1] > numbers[offset + child]) child++;
+			
+			if (numbers[offset + child] <= value) break;
+			
+			numbers[offset + index] = numbers[offset + child];
+			
+			index = child;
+		}
+		
+		numbers[offset + index] = value;
+	}
+	
+	/**
+	 * Sorts the given array using a counting sort, for numbers that span a small range of values.
+	 * <p>
+	 * The smallest and largest numbers are found in a single pass, then the occurrences of every value in between
+	 * are counted and written back in order, in {@code O(n + k)} time for a range of {@code k} values and with no
+	 * comparisons. The count table is never allowed to be larger than the array itself: if the range is wider than
+	 * the array is long, the array is sorted with {@link #sort(int[])} instead.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void countingSort(int[] numbers) {
+		
+		int length = numbers.length;
+		
+		if (length <= INSERTION_SORT_THRESHOLD) {
+			
+			networkSort(numbers, 0, length);
+			
+			return;
+		}
+		
+		int smallest = numbers[0];
+		int largest = numbers[0];
+		
+		for (int number : numbers) {
+			
+			smallest = Math.min(smallest, number);
+			largest = Math.max(largest, number);
+		}
+		
+		long range = (long) largest - smallest + 1;
+		
+		if (range > length) {
+			
+			sort(numbers);
+			
+			return;
+		}
+		
+		int[] counts = new int[(int) range];
+		
+		for (int number : numbers) {
+			
+			counts[number - smallest]++;
+		}
+		
+		for (int offset = 0, index = 0; offset < counts.length; offset++) {
+			
+			int count = counts[offset];
+			
+			Arrays.fill(numbers, index, index + count, smallest + offset);
+			
+			index += count;
+		}
+	}
+	
+	/**
+	 * Sorts the given array using an LSD radix sort with 8-bit digits.
+	 *
+	 * @param numbers The array to sort.
+	 * @see #radixSort(int[], int[])
+	 */
+	public static void radixSort(int[] numbers) {
+		
+		if (numbers.length < 2) return;
+		
+		radixSort(numbers, new int[numbers.length]);
+	}
+	
+	/**
+	 * Sorts the given array using an LSD radix sort with 8-bit digits and a caller supplied workspace.
+	 * <p>
+	 * The histograms for all four digits are built in a single pass, and passes where every element
+	 * has the same digit are skipped. Runs in linear time regardless of the input order.
+	 *
+	 * @param numbers   The array to sort.
+	 * @param workspace The scratch buffer, at least as long as the array. Its contents are overwritten.
+	 * @throws IllegalArgumentException If the workspace is shorter than the array throw this exception.
+	 */
+	public static void radixSort(int[] numbers, int[] workspace) {
+		
+		int length = numbers.length;
+		
+		if (workspace.length < length)
+			
+			throw new IllegalArgumentException("The workspace must be at least as long as the array.");
+		
+		radixSort(numbers, workspace, 0, length);
+	}
+	
+	/**
+	 * Sorts a range of the given array using an LSD radix sort with 8-bit digits.
+	 *
+	 * @param numbers   The array to sort.
+	 * @param workspace The scratch buffer, the same range of it is overwritten.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void radixSort(int[] numbers, int[] workspace, int fromIndex, int toIndex) {
+		
+		int length = toIndex - fromIndex;
+		
+		if (length <= INSERTION_SORT_THRESHOLD) {
+			
+			networkSort(numbers, fromIndex, toIndex);
+			
+			return;
+		}
+		
+		int[] counts = new int[4 * 256];
+		
+		for (int i = fromIndex; i < toIndex; i++) {
+			
+			int key = numbers[i] ^ Integer.MIN_VALUE;
+			
+			counts[key & 0xFF]++;
+			counts[256 + (key >>> 8 & 0xFF)]++;
+			counts[512 + (key >>> 16 & 0xFF)]++;
+			counts[768 + (key >>> 24)]++;
+		}
+		
+		int[] source = numbers;
+		int[] target = workspace;
+		
+		for (int shift = 0; shift < 32; shift += 8) {
+			
+			int offset = shift << 5;
+			
+			// Every element has the same digit, so this pass would not move anything.
+			if (counts[offset + ((source[fromIndex] ^ Integer.MIN_VALUE) >>> shift & 0xFF)] == length) continue;
+			
+			for (int digit = 0, sum = fromIndex; digit < 256; digit++) {
+				
+				int count = counts[offset + digit];
+				
+				counts[offset + digit] = sum;
+				
+				sum += count;
+			}
+			
+			for (int i = fromIndex; i < toIndex; i++) {
+				
+				int value = source[i];
+				
+				target[counts[offset + ((value ^ Integer.MIN_VALUE) >>> shift & 0xFF)]++] = value;
+			}
+			
+			int[] temp = source;
+			
+			source = target;
+			target = temp;
+		}
+		
+		if (source != numbers) System.arraycopy(source, fromIndex, numbers, fromIndex, length);
+	}
+	
+	/**
+	 * Sorts the given array using a parallel MSD radix sort on the common fork-join pool.
+	 *
+	 * @param numbers The array to sort.
+	 * @see #parallelRadixSort(int[], int)
+	 */
+	public static void parallelRadixSort(int[] numbers) {
+		
+		parallelRadixSort(numbers, ForkJoinPool.getCommonPoolParallelism());
+	}
+	
+	/**
+	 * Sorts the given array using a parallel MSD radix sort with 8-bit digits.
+	 * <p>
+	 * Each worker builds a histogram of the most significant digit for its chunk of the array, the histograms
+	 * are prefix summed into per-bucket regions, and the workers scatter their chunks into those regions.
+	 * The buckets are then sorted in parallel on the next digit, and ranges small enough are finished with
+	 * the sequential LSD radix sort.
+	 *
+	 * @param numbers     The array to sort.
+	 * @param parallelism The number of threads to sort with.
+	 * @throws IllegalArgumentException If the parallelism is less than 1 throw this exception.
+	 */
+	public static void parallelRadixSort(int[] numbers, int parallelism) {
+		
+		if (parallelism < 1)
+			
+			throw new IllegalArgumentException("The parallelism must be at least 1.");
+		
+		int length = numbers.length;
+		
+		if (length < 2) return;
+		
+		int[] buffer = new int[length];
+		
+		if (parallelism == 1 || length <= PARALLEL_CUTOFF) {
+			
+			radixSort(numbers, buffer, 0, length);
+			
+			return;
+		}
+		
+		invoke(new RadixSortTask(numbers, numbers, buffer, 0, length, 24), parallelism);
+	}
+	
+	/**
+	 * A fork-join task that radix sorts a range of an array, starting from a given digit.
+	 */
+	private static final class RadixSortTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] numbers;
+		private final int[] source;
+		private final int[] target;
+		private final int fromIndex;
+		private final int toIndex;
+		private final int shift;
+		
+		/**
+		 * Create a task that sorts a range by the given digit and every less significant one.
+		 *
+		 * @param numbers   The array the sorted range must end up in.
+		 * @param source    The array currently holding the range.
+		 * @param target    The array to scatter the range into.
+		 * @param fromIndex The index of the first element, inclusive.
+		 * @param toIndex   The index of the last element, exclusive.
+		 * @param shift     The shift of the digit to sort by, every more significant digit is equal within the range.
+		 */
+		private RadixSortTask(int[] numbers, int[] source, int[] target, int fromIndex, int toIndex, int shift) {
+			
+			this.numbers = numbers;
+			this.source = source;
+			this.target = target;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+			this.shift = shift;
+		}
+		
+		@Override
+		protected void compute() {
+			
+			int length = toIndex - fromIndex;
+			
+			// Once every digit has been used the elements in the range are all equal.
+			if (shift < 0 || length <= PARALLEL_CUTOFF) {
+				
+				if (shift >= 0) radixSort(source, target, fromIndex, toIndex);
+				
+				if (source != numbers) System.arraycopy(source, fromIndex, numbers, fromIndex, length);
+				
+				return;
+			}
+			
+			int chunkCount = Math.min(getPool().getParallelism(), length / PARALLEL_CUTOFF);
+			int chunkLength = (length + chunkCount - 1) / chunkCount;
+			
+			int[][] counts = new int[chunkCount][256];
+			
+			List<ForkJoinTask<?>> tasks = new ArrayList<>(chunkCount);
+			
+			for (int chunk = 0; chunk < chunkCount; chunk++) {
+				
+				int[] chunkCounts = counts[chunk];
+				int chunkFrom = fromIndex + chunk * chunkLength;
+				int chunkTo = Math.min(chunkFrom + chunkLength, toIndex);
+				
+				tasks.add(ForkJoinTask.adapt(() -> {
+					
+					for (int i = chunkFrom; i < chunkTo; i++) {
+						
+						chunkCounts[(source[i] ^ Integer.MIN_VALUE) >>> shift & 0xFF]++;
+					}
+				}));
+			}
+			
+			invokeAll(tasks);
+			
+			// Turn the counts into the position each chunk writes its next element with a given digit to.
+			int[] bucketStarts = new int[257];
+			
+			for (int digit = 0, sum = fromIndex; digit < 256; digit++) {
+				
+				bucketStarts[digit] = sum;
+				
+				for (int[] chunkCounts : counts) {
+					
+					int count = chunkCounts[digit];
+					
+					chunkCounts[digit] = sum;
+					
+					sum += count;
+				}
+			}
+			
+			bucketStarts[256] = toIndex;
+			
+			// Every element has the same digit, so move on to the next one without scattering.
+			for (int digit = 0; digit < 256; digit++) {
+				
+				if (bucketStarts[digit + 1] - bucketStarts[digit] == length) {
+					
+					new RadixSortTask(numbers, source, target, fromIndex, toIndex, shift - 8).compute();
+					
+					return;
+				}
+			}
+			
+			tasks.clear();
+			
+			for (int chunk = 0; chunk < chunkCount; chunk++) {
+				
+				int[] chunkCounts = counts[chunk];
+				int chunkFrom = fromIndex + chunk * chunkLength;
+				int chunkTo = Math.min(chunkFrom + chunkLength, toIndex);
+				
+				tasks.add(ForkJoinTask.adapt(() -> {
+					
+					for (int i = chunkFrom; i < chunkTo; i++) {
+						
+						int value = source[i];
+						
+						target[chunkCounts[(value ^ Integer.MIN_VALUE) >>> shift & 0xFF]++] = value;
+					}
+				}));
+			}
+			
+			invokeAll(tasks);
+			
+			List<RadixSortTask> buckets = new ArrayList<>();
+			
+			for (int digit = 0; digit < 256; digit++) {
+				
+				if (bucketStarts[digit] < bucketStarts[digit + 1])
+					
+					buckets.add(new RadixSortTask(numbers, target, source, bucketStarts[digit], bucketStarts[digit + 1], shift - 8));
+			}
+			
+			invokeAll(buckets);
+		}
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the quick sort algorithm.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void quickSort(long[] numbers) {
+		
+		quickSort(numbers, 0, numbers.length);
+	}
+	
+	/**
+	 * Sorts a range of an array using quick sort with a random pivot and three-way partitioning.
+	 *
+	 * @param numbers   The array of numbers to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void quickSort(long[] numbers, int fromIndex, int toIndex) {
+		
+		while (toIndex - fromIndex > INSERTION_SORT_THRESHOLD) {
+			
+			long pivot = numbers[ThreadLocalRandom.current().nextInt(fromIndex, toIndex)];
+			
+			// Invariant: [fromIndex, lessIndex) < pivot, [lessIndex, i) == pivot, [greaterIndex, toIndex) > pivot.
+			int lessIndex = fromIndex;
+			int greaterIndex = toIndex;
+			int i = fromIndex;
+			
+			while (i < greaterIndex) {
+				
+				long value = numbers[i];
+				
+				if (value < pivot) {
+					
+					quickSwap(numbers, lessIndex++, i++);
+					
+				} else if (value > pivot) {
+					
+					quickSwap(numbers, i, --greaterIndex);
+					
+				} else {
+					
+					i++;
+				}
+			}
+			
+			// Recurse into the smaller side and loop on the larger one to keep the stack depth logarithmic.
+			if (lessIndex - fromIndex < toIndex - greaterIndex) {
+				
+				quickSort(numbers, fromIndex, lessIndex);
+				
+				fromIndex = greaterIndex;
+				
+			} else {
+				
+				quickSort(numbers, greaterIndex, toIndex);
+				
+				toIndex = lessIndex;
+			}
+		}
+		
+		insertionSort(numbers, fromIndex, toIndex);
+	}
+	
+	/**
+	 * Swaps two elements in an array.
+	 *
+	 * @param numbers The array of numbers.
+	 * @param index1  The index of the first element.
+	 * @param index2  The index of the second element.
+	 */
+	private static void quickSwap(long[] numbers, int index1, int index2) {
+		
+		long temp = numbers[index1];
+		
+		numbers[index1] = numbers[index2];
+		numbers[index2] = temp;
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the merge sort algorithm.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void mergeSort(long[] numbers) {
+		
+		if (numbers.length < 2) return;
+		
+		mergeSort(Arrays.copyOf(numbers, numbers.length), numbers, 0, numbers.length);
+	}
+	
+	/**
+	 * Sorts a range of the source array into the same range of the target array using the merge sort algorithm.
+	 * <p>
+	 * Both arrays must hold the same elements in the range when called.
+	 *
+	 * @param source    The array to sort from.
+	 * @param target    The array the sorted range is written to.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void mergeSort(long[] source, long[] target, int fromIndex, int toIndex) {
+		
+		if (toIndex - fromIndex <= INSERTION_SORT_THRESHOLD) {
+			
+			insertionSort(target, fromIndex, toIndex);
+			
+			return;
+		}
+		
+		int middleIndex = (fromIndex + toIndex) >>> 1;
+		
+		mergeSort(target, source, fromIndex, middleIndex);
+		mergeSort(target, source, middleIndex, toIndex);
+		
+		if (source[middleIndex - 1] <= source[middleIndex]) {
+			
+			System.arraycopy(source, fromIndex, target, fromIndex, toIndex - fromIndex);
+			
+			return;
+		}
+		
+		int i = fromIndex, j = middleIndex, k = fromIndex;
+		
+		while (i < middleIndex && j < toIndex) {
+			
+			target[k++] = source[i] <= source[j] ? source[i++] : source[j++];
+		}
+		
+		System.arraycopy(source, i, target, k, middleIndex - i);
+		System.arraycopy(source, j, target, k, toIndex - j);
+	}
+	
+	/**
+	 * Sorts the given array using the insertion sort algorithm.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void insertionSort(long[] numbers) {
+		
+		insertionSort(numbers, 0, numbers.length);
+	}
+	
+	/**
+	 * Sorts a range of the given array using the insertion sort algorithm.
+	 *
+	 * @param numbers   The array to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void insertionSort(long[] numbers, int fromIndex, int toIndex) {
+		
+		for (int i = fromIndex + 1; i < toIndex; i++) {
+			
+			long currentValue = numbers[i];
+			
+			int j = i - 1;
+			
+			while (j >= fromIndex && numbers[j] > currentValue) {
+				
+				numbers[j + 1] = numbers[j];
+				
+				j--;
+			}
+			
+			numbers[j + 1] = currentValue;
+		}
+	}
+	
+	/**
+	 * Sorts the given array using an LSD radix sort with 8-bit digits.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void radixSort(long[] numbers) {
+		
+		radixSort(numbers, numbers.length);
+	}
+	
+	/**
+	 * Sorts the first elements of the given array using an LSD radix sort with 8-bit digits.
+	 *
+	 * @param numbers The array to sort.
+	 * @param length  The number of elements to sort.
+	 */
+	private static void radixSort(long[] numbers, int length) {
+		
+		if (length <= INSERTION_SORT_THRESHOLD) {
+			
+			insertionSort(numbers, 0, length);
+			
+			return;
+		}
+		
+		int[] counts = new int[8 * 256];
+		
+		for (int i = 0; i < length; i++) {
+			
+			long key = numbers[i] ^ Long.MIN_VALUE;
+			
+			for (int shift = 0; shift < 64; shift += 8) {
+				
+				counts[(shift << 5) + ((int) (key >>> shift) & 0xFF)]++;
+			}
+		}
+		
+		long[] source = numbers;
+		long[] target = new long[length];
+		
+		for (int shift = 0; shift < 64; shift += 8) {
+			
+			int offset = shift << 5;
+			
+			long key = source[0] ^ Long.MIN_VALUE;
+			
+			// Every element has the same digit, so this pass would not move anything.
+			if (counts[offset + ((int) (key >>> shift) & 0xFF)] == length) continue;
+			
+			for (int digit = 0, sum = 0; digit < 256; digit++) {
+				
+				int count = counts[offset + digit];
+				
+				counts[offset + digit] = sum;
+				
+				sum += count;
+			}
+			
+			for (int i = 0; i < length; i++) {
+				
+				long value = source[i];
+				
+				key = value ^ Long.MIN_VALUE;
+				
+				target[counts[offset + ((int) (key >>> shift) & 0xFF)]++] = value;
+			}
+			
+			long[] temp = source;
+			
+			source = target;
+			target = temp;
+		}
+		
+		if (source != numbers) System.arraycopy(source, 0, numbers, 0, length);
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the quick sort algorithm.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void quickSort(short[] numbers) {
+		
+		quickSort(numbers, 0, numbers.length);
+	}
+	
+	/**
+	 * Sorts a range of an array using quick sort with a random pivot and three-way partitioning.
+	 *
+	 * @param numbers   The array of numbers to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void quickSort(short[] numbers, int fromIndex, int toIndex) {
+		
+		while (toIndex - fromIndex > INSERTION_SORT_THRESHOLD) {
+			
+			short pivot = numbers[ThreadLocalRandom.current().nextInt(fromIndex, toIndex)];
+			
+			// Invariant: [fromIndex, lessIndex) < pivot, [lessIndex, i) == pivot, [greaterIndex, toIndex) > pivot.
+			int lessIndex = fromIndex;
+			int greaterIndex = toIndex;
+			int i = fromIndex;
+			
+			while (i < greaterIndex) {
+				
+				short value = numbers[i];
+				
+				if (value < pivot) {
+					
+					quickSwap(numbers, lessIndex++, i++);
+					
+				} else if (value > pivot) {
+					
+					quickSwap(numbers, i, --greaterIndex);
+					
+				} else {
+					
+					i++;
+				}
+			}
+			
+			// Recurse into the smaller side and loop on the larger one to keep the stack depth logarithmic.
+			if (lessIndex - fromIndex < toIndex - greaterIndex) {
+				
+				quickSort(numbers, fromIndex, lessIndex);
+				
+				fromIndex = greaterIndex;
+				
+			} else {
+				
+				quickSort(numbers, greaterIndex, toIndex);
+				
+				toIndex = lessIndex;
+			}
+		}
+		
+		insertionSort(numbers, fromIndex, toIndex);
+	}
+	
+	/**
+	 * Swaps two elements in an array.
+	 *
+	 * @param numbers The array of numbers.
+	 * @param index1  The index of the first element.
+	 * @param index2  The index of the second element.
+	 */
+	private static void quickSwap(short[] numbers, int index1, int index2) {
+		
+		short temp = numbers[index1];
+		
+		numbers[index1] = numbers[index2];
+		numbers[index2] = temp;
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the merge sort algorithm.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void mergeSort(short[] numbers) {
+		
+		if (numbers.length < 2) return;
+		
+		mergeSort(Arrays.copyOf(numbers, numbers.length), numbers, 0, numbers.length);
+	}
+	
+	/**
+	 * Sorts a range of the source array into the same range of the target array using the merge sort algorithm.
+	 * <p>
+	 * Both arrays must hold the same elements in the range when called.
+	 *
+	 * @param source    The array to sort from.
+	 * @param target    The array the sorted range is written to.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void mergeSort(short[] source, short[] target, int fromIndex, int toIndex) {
+		
+		if (toIndex - fromIndex <= INSERTION_SORT_THRESHOLD) {
+			
+			insertionSort(target, fromIndex, toIndex);
+			
+			return;
+		}
+		
+		int middleIndex = (fromIndex + toIndex) >>> 1;
+		
+		mergeSort(target, source, fromIndex, middleIndex);
+		mergeSort(target, source, middleIndex, toIndex);
+		
+		if (source[middleIndex - 1] <= source[middleIndex]) {
+			
+			System.arraycopy(source, fromIndex, target, fromIndex, toIndex - fromIndex);
+			
+			return;
+		}
+		
+		int i = fromIndex, j = middleIndex, k = fromIndex;
+		
+		while (i < middleIndex && j < toIndex) {
+			
+			target[k++] = source[i] <= source[j] ? source[i++] : source[j++];
+		}
+		
+		System.arraycopy(source, i, target, k, middleIndex - i);
+		System.arraycopy(source, j, target, k, toIndex - j);
+	}
+	
+	/**
+	 * Sorts the given array using the insertion sort algorithm.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void insertionSort(short[] numbers) {
+		
+		insertionSort(numbers, 0, numbers.length);
+	}
+	
+	/**
+	 * Sorts a range of the given array using the insertion sort algorithm.
+	 *
+	 * @param numbers   The array to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void insertionSort(short[] numbers, int fromIndex, int toIndex) {
+		
+		for (int i = fromIndex + 1; i < toIndex; i++) {
+			
+			short currentValue = numbers[i];
+			
+			int j = i - 1;
+			
+			while (j >= fromIndex && numbers[j] > currentValue) {
+				
+				numbers[j + 1] = numbers[j];
+				
+				j--;
+			}
+			
+			numbers[j + 1] = currentValue;
+		}
+	}
+	
+	/**
+	 * Sorts the given array using an LSD radix sort with 8-bit digits.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void radixSort(short[] numbers) {
+		
+		radixSort(numbers, numbers.length);
+	}
+	
+	/**
+	 * Sorts the first elements of the given array using an LSD radix sort with 8-bit digits.
+	 *
+	 * @param numbers The array to sort.
+	 * @param length  The number of elements to sort.
+	 */
+	private static void radixSort(short[] numbers, int length) {
+		
+		if (length <= INSERTION_SORT_THRESHOLD) {
+			
+			insertionSort(numbers, 0, length);
+			
+			return;
+		}
+		
+		int[] counts = new int[2 * 256];
+		
+		for (int i = 0; i < length; i++) {
+			
+			int key = (numbers[i] & 0xFFFF) ^ 0x8000;
+			
+			for (int shift = 0; shift < 16; shift += 8) {
+				
+				counts[(shift << 5) + (key >>> shift & 0xFF)]++;
+			}
+		}
+		
+		short[] source = numbers;
+		short[] target = new short[length];
+		
+		for (int shift = 0; shift < 16; shift += 8) {
+			
+			int offset = shift << 5;
+			
+			int key = (source[0] & 0xFFFF) ^ 0x8000;
+			
+			// Every element has the same digit, so this pass would not move anything.
+			if (counts[offset + (key >>> shift & 0xFF)] == length) continue;
+			
+			for (int digit = 0, sum = 0; digit < 256; digit++) {
+				
+				int count = counts[offset + digit];
+				
+				counts[offset + digit] = sum;
+				
+				sum += count;
+			}
+			
+			for (int i = 0; i < length; i++) {
+				
+				short value = source[i];
+				
+				key = (value & 0xFFFF) ^ 0x8000;
+				
+				target[counts[offset + (key >>> shift & 0xFF)]++] = value;
+			}
+			
+			short[] temp = source;
+			
+			source = target;
+			target = temp;
+		}
+		
+		if (source != numbers) System.arraycopy(source, 0, numbers, 0, length);
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the quick sort algorithm.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void quickSort(char[] numbers) {
+		
+		quickSort(numbers, 0, numbers.length);
+	}
+	
+	/**
+	 * Sorts a range of an array using quick sort with a random pivot and three-way partitioning.
+	 *
+	 * @param numbers   The array of numbers to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void quickSort(char[] numbers, int fromIndex, int toIndex) {
+		
+		while (toIndex - fromIndex > INSERTION_SORT_THRESHOLD) {
+			
+			char pivot = numbers[ThreadLocalRandom.current().nextInt(fromIndex, toIndex)];
+			
+			// Invariant: [fromIndex, lessIndex) < pivot, [lessIndex, i) == pivot, [greaterIndex, toIndex) > pivot.
+			int lessIndex = fromIndex;
+			int greaterIndex = toIndex;
+			int i = fromIndex;
+			
+			while (i < greaterIndex) {
+				
+				char value = numbers[i];
+				
+				if (value < pivot) {
+					
+					quickSwap(numbers, lessIndex++, i++);
+					
+				} else if (value > pivot) {
+					
+					quickSwap(numbers, i, --greaterIndex);
+					
+				} else {
+					
+					i++;
+				}
+			}
+			
+			// Recurse into the smaller side and loop on the larger one to keep the stack depth logarithmic.
+			if (lessIndex - fromIndex < toIndex - greaterIndex) {
+				
+				quickSort(numbers, fromIndex, lessIndex);
+				
+				fromIndex = greaterIndex;
+				
+			} else {
+				
+				quickSort(numbers, greaterIndex, toIndex);
+				
+				toIndex = lessIndex;
+			}
+		}
+		
+		insertionSort(numbers, fromIndex, toIndex);
+	}
+	
+	/**
+	 * Swaps two elements in an array.
+	 *
+	 * @param numbers The array of numbers.
+	 * @param index1  The index of the first element.
+	 * @param index2  The index of the second element.
+	 */
+	private static void quickSwap(char[] numbers, int index1, int index2) {
+		
+		char temp = numbers[index1];
+		
+		numbers[index1] = numbers[index2];
+		numbers[index2] = temp;
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the merge sort algorithm.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void mergeSort(char[] numbers) {
+		
+		if (numbers.length < 2) return;
+		
+		mergeSort(Arrays.copyOf(numbers, numbers.length), numbers, 0, numbers.length);
+	}
+	
+	/**
+	 * Sorts a range of the source array into the same range of the target array using the merge sort algorithm.
+	 * <p>
+	 * Both arrays must hold the same elements in the range when called.
+	 *
+	 * @param source    The array to sort from.
+	 * @param target    The array the sorted range is written to.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void mergeSort(char[] source, char[] target, int fromIndex, int toIndex) {
+		
+		if (toIndex - fromIndex <= INSERTION_SORT_THRESHOLD) {
+			
+			insertionSort(target, fromIndex, toIndex);
+			
+			return;
+		}
+		
+		int middleIndex = (fromIndex + toIndex) >>> 1;
+		
+		mergeSort(target, source, fromIndex, middleIndex);
+		mergeSort(target, source, middleIndex, toIndex);
+		
+		if (source[middleIndex - 1] <= source[middleIndex]) {
+			
+			System.arraycopy(source, fromIndex, target, fromIndex, toIndex - fromIndex);
+			
+			return;
+		}
+		
+		int i = fromIndex, j = middleIndex, k = fromIndex;
+		
+		while (i < middleIndex && j < toIndex) {
+			
+			target[k++] = source[i] <= source[j] ? source[i++] : source[j++];
+		}
+		
+		System.arraycopy(source, i, target, k, middleIndex - i);
+		System.arraycopy(source, j, target, k, toIndex - j);
+	}
+	
+	/**
+	 * Sorts the given array using the insertion sort algorithm.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void insertionSort(char[] numbers) {
+		
+		insertionSort(numbers, 0, numbers.length);
+	}
+	
+	/**
+	 * Sorts a range of the given array using the insertion sort algorithm.
+	 *
+	 * @param numbers   The array to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void insertionSort(char[] numbers, int fromIndex, int toIndex) {
+		
+		for (int i = fromIndex + 1; i < toIndex; i++) {
+			
+			char currentValue = numbers[i];
+			
+			int j = i - 1;
+			
+			while (j >= fromIndex && numbers[j] > currentValue) {
+				
+				numbers[j + 1] = numbers[j];
+				
+				j--;
+			}
+			
+			numbers[j + 1] = currentValue;
+		}
+	}
+	
+	/**
+	 * Sorts the given array using an LSD radix sort with 8-bit digits.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void radixSort(char[] numbers) {
+		
+		radixSort(numbers, numbers.length);
+	}
+	
+	/**
+	 * Sorts the first elements of the given array using an LSD radix sort with 8-bit digits.
+	 *
+	 * @param numbers The array to sort.
+	 * @param length  The number of elements to sort.
+	 */
+	private static void radixSort(char[] numbers, int length) {
+		
+		if (length <= INSERTION_SORT_THRESHOLD) {
+			
+			insertionSort(numbers, 0, length);
+			
+			return;
+		}
+		
+		int[] counts = new int[2 * 256];
+		
+		for (int i = 0; i < length; i++) {
+			
+			int key = numbers[i];
+			
+			for (int shift = 0; shift < 16; shift += 8) {
+				
+				counts[(shift << 5) + (key >>> shift & 0xFF)]++;
+			}
+		}
+		
+		char[] source = numbers;
+		char[] target = new char[length];
+		
+		for (int shift = 0; shift < 16; shift += 8) {
+			
+			int offset = shift << 5;
+			
+			int key = source[0];
+			
+			// Every element has the same digit, so this pass would not move anything.
+			if (counts[offset + (key >>> shift & 0xFF)] == length) continue;
+			
+			for (int digit = 0, sum = 0; digit < 256; digit++) {
+				
+				int count = counts[offset + digit];
+				
+				counts[offset + digit] = sum;
+				
+				sum += count;
+			}
+			
+			for (int i = 0; i < length; i++) {
+				
+				char value = source[i];
+				
+				key = value;
+				
+				target[counts[offset + (key >>> shift & 0xFF)]++] = value;
+			}
+			
+			char[] temp = source;
+			
+			source = target;
+			target = temp;
+		}
+		
+		if (source != numbers) System.arraycopy(source, 0, numbers, 0, length);
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the quick sort algorithm.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void quickSort(byte[] numbers) {
+		
+		quickSort(numbers, 0, numbers.length);
+	}
+	
+	/**
+	 * Sorts a range of an array using quick sort with a random pivot and three-way partitioning.
+	 *
+	 * @param numbers   The array of numbers to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void quickSort(byte[] numbers, int fromIndex, int toIndex) {
+		
+		while (toIndex - fromIndex > INSERTION_SORT_THRESHOLD) {
+			
+			byte pivot = numbers[ThreadLocalRandom.current().nextInt(fromIndex, toIndex)];
+			
+			// Invariant: [fromIndex, lessIndex) < pivot, [lessIndex, i) == pivot, [greaterIndex, toIndex) > pivot.
+			int lessIndex = fromIndex;
+			int greaterIndex = toIndex;
+			int i = fromIndex;
+			
+			while (i < greaterIndex) {
+				
+				byte value = numbers[i];
+				
+				if (value < pivot) {
+					
+					quickSwap(numbers, lessIndex++, i++);
+					
+				} else if (value > pivot) {
+					
+					quickSwap(numbers, i, --greaterIndex);
+					
+				} else {
+					
+					i++;
+				}
+			}
+			
+			// Recurse into the smaller side and loop on the larger one to keep the stack depth logarithmic.
+			if (lessIndex - fromIndex < toIndex - greaterIndex) {
+				
+				quickSort(numbers, fromIndex, lessIndex);
+				
+				fromIndex = greaterIndex;
+				
+			} else {
+				
+				quickSort(numbers, greaterIndex, toIndex);
+				
+				toIndex = lessIndex;
+			}
+		}
+		
+		insertionSort(numbers, fromIndex, toIndex);
+	}
+	
+	/**
+	 * Swaps two elements in an array.
+	 *
+	 * @param numbers The array of numbers.
+	 * @param index1  The index of the first element.
+	 * @param index2  The index of the second element.
+	 */
+	private static void quickSwap(byte[] numbers, int index1, int index2) {
+		
+		byte temp = numbers[index1];
+		
+		numbers[index1] = numbers[index2];
+		numbers[index2] = temp;
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the merge sort algorithm.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void mergeSort(byte[] numbers) {
+		
+		if (numbers.length < 2) return;
+		
+		mergeSort(Arrays.copyOf(numbers, numbers.length), numbers, 0, numbers.length);
+	}
+	
+	/**
+	 * Sorts a range of the source array into the same range of the target array using the merge sort algorithm.
+	 * <p>
+	 * Both arrays must hold the same elements in the range when called.
+	 *
+	 * @param source    The array to sort from.
+	 * @param target    The array the sorted range is written to.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void mergeSort(byte[] source, byte[] target, int fromIndex, int toIndex) {
+		
+		if (toIndex - fromIndex <= INSERTION_SORT_THRESHOLD) {
+			
+			insertionSort(target, fromIndex, toIndex);
+			
+			return;
+		}
+		
+		int middleIndex = (fromIndex + toIndex) >>> 1;
+		
+		mergeSort(target, source, fromIndex, middleIndex);
+		mergeSort(target, source, middleIndex, toIndex);
+		
+		if (source[middleIndex - 1] <= source[middleIndex]) {
+			
+			System.arraycopy(source, fromIndex, target, fromIndex, toIndex - fromIndex);
+			
+			return;
+		}
+		
+		int i = fromIndex, j = middleIndex, k = fromIndex;
+		
+		while (i < middleIndex && j < toIndex) {
+			
+			target[k++] = source[i] <= source[j] ? source[i++] : source[j++];
+		}
+		
+		System.arraycopy(source, i, target, k, middleIndex - i);
+		System.arraycopy(source, j, target, k, toIndex - j);
+	}
+	
+	/**
+	 * Sorts the given array using the insertion sort algorithm.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void insertionSort(byte[] numbers) {
+		
+		insertionSort(numbers, 0, numbers.length);
+	}
+	
+	/**
+	 * Sorts a range of the given array using the insertion sort algorithm.
+	 *
+	 * @param numbers   The array to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void insertionSort(byte[] numbers, int fromIndex, int toIndex) {
+		
+		for (int i = fromIndex + 1; i < toIndex; i++) {
+			
+			byte currentValue = numbers[i];
+			
+			int j = i - 1;
+			
+			while (j >= fromIndex && numbers[j] > currentValue) {
+				
+				numbers[j + 1] = numbers[j];
+				
+				j--;
+			}
+			
+			numbers[j + 1] = currentValue;
+		}
+	}
+	
+	/**
+	 * Sorts the given array using an LSD radix sort with 8-bit digits.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void radixSort(byte[] numbers) {
+		
+		radixSort(numbers, numbers.length);
+	}
+	
+	/**
+	 * Sorts the first elements of the given array using an LSD radix sort with 8-bit digits.
+	 *
+	 * @param numbers The array to sort.
+	 * @param length  The number of elements to sort.
+	 */
+	private static void radixSort(byte[] numbers, int length) {
+		
+		if (length <= INSERTION_SORT_THRESHOLD) {
+			
+			insertionSort(numbers, 0, length);
+			
+			return;
+		}
+		
+		int[] counts = new int[1 * 256];
+		
+		for (int i = 0; i < length; i++) {
+			
+			int key = (numbers[i] & 0xFF) ^ 0x80;
+			
+			for (int shift = 0; shift < 8; shift += 8) {
+				
+				counts[(shift << 5) + (key >>> shift & 0xFF)]++;
+			}
+		}
+		
+		byte[] source = numbers;
+		byte[] target = new byte[length];
+		
+		for (int shift = 0; shift < 8; shift += 8) {
+			
+			int offset = shift << 5;
+			
+			int key = (source[0] & 0xFF) ^ 0x80;
+			
+			// Every element has the same digit, so this pass would not move anything.
+			if (counts[offset + (key >>> shift & 0xFF)] == length) continue;
+			
+			for (int digit = 0, sum = 0; digit < 256; digit++) {
+				
+				int count = counts[offset + digit];
+				
+				counts[offset + digit] = sum;
+				
+				sum += count;
+			}
+			
+			for (int i = 0; i < length; i++) {
+				
+				byte value = source[i];
+				
+				key = (value & 0xFF) ^ 0x80;
+				
+				target[counts[offset + (key >>> shift & 0xFF)]++] = value;
+			}
+			
+			byte[] temp = source;
+			
+			source = target;
+			target = temp;
+		}
+		
+		if (source != numbers) System.arraycopy(source, 0, numbers, 0, length);
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the quick sort algorithm.
+	 * <p>
+	 * {@code NaN} values are placed last and {@code -0.0} before {@code 0.0}, matching {@link Float#compare(float, float)}.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void quickSort(float[] numbers) {
+		
+		int toIndex = moveNaNsToEnd(numbers);
+		
+		quickSort(numbers, 0, toIndex);
+		orderSignedZeros(numbers, toIndex);
+	}
+	
+	/**
+	 * Sorts a range of an array using quick sort with a random pivot and three-way partitioning.
+	 *
+	 * @param numbers   The array of numbers to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void quickSort(float[] numbers, int fromIndex, int toIndex) {
+		
+		while (toIndex - fromIndex > INSERTION_SORT_THRESHOLD) {
+			
+			float pivot = numbers[ThreadLocalRandom.current().nextInt(fromIndex, toIndex)];
+			
+			// Invariant: [fromIndex, lessIndex) < pivot, [lessIndex, i) == pivot, [greaterIndex, toIndex) > pivot.
+			int lessIndex = fromIndex;
+			int greaterIndex = toIndex;
+			int i = fromIndex;
+			
+			while (i < greaterIndex) {
+				
+				float value = numbers[i];
+				
+				if (value < pivot) {
+					
+					quickSwap(numbers, lessIndex++, i++);
+					
+				} else if (value > pivot) {
+					
+					quickSwap(numbers, i, --greaterIndex);
+					
+				} else {
+					
+					i++;
+				}
+			}
+			
+			// Recurse into the smaller side and loop on the larger one to keep the stack depth logarithmic.
+			if (lessIndex - fromIndex < toIndex - greaterIndex) {
+				
+				quickSort(numbers, fromIndex, lessIndex);
+				
+				fromIndex = greaterIndex;
+				
+			} else {
+				
+				quickSort(numbers, greaterIndex, toIndex);
+				
+				toIndex = lessIndex;
+			}
+		}
+		
+		insertionSort(numbers, fromIndex, toIndex);
+	}
+	
+	/**
+	 * Swaps two elements in an array.
+	 *
+	 * @param numbers The array of numbers.
+	 * @param index1  The index of the first element.
+	 * @param index2  The index of the second element.
+	 */
+	private static void quickSwap(float[] numbers, int index1, int index2) {
+		
+		float temp = numbers[index1];
+		
+		numbers[index1] = numbers[index2];
+		numbers[index2] = temp;
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the merge sort algorithm.
+	 * <p>
+	 * {@code NaN} values are placed last and {@code -0.0} before {@code 0.0}, matching {@link Float#compare(float, float)}.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void mergeSort(float[] numbers) {
+		
+		if (numbers.length < 2) return;
+		
+		int toIndex = moveNaNsToEnd(numbers);
+		
+		mergeSort(Arrays.copyOf(numbers, toIndex), numbers, 0, toIndex);
+		orderSignedZeros(numbers, toIndex);
+	}
+	
+	/**
+	 * Sorts a range of the source array into the same range of the target array using the merge sort algorithm.
+	 * <p>
+	 * Both arrays must hold the same elements in the range when called.
+	 *
+	 * @param source    The array to sort from.
+	 * @param target    The array the sorted range is written to.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void mergeSort(float[] source, float[] target, int fromIndex, int toIndex) {
+		
+		if (toIndex - fromIndex <= INSERTION_SORT_THRESHOLD) {
+			
+			insertionSort(target, fromIndex, toIndex);
+			
+			return;
+		}
+		
+		int middleIndex = (fromIndex + toIndex) >>> 1;
+		
+		mergeSort(target, source, fromIndex, middleIndex);
+		mergeSort(target, source, middleIndex, toIndex);
+		
+		if (source[middleIndex - 1] <= source[middleIndex]) {
+			
+			System.arraycopy(source, fromIndex, target, fromIndex, toIndex - fromIndex);
+			
+			return;
+		}
+		
+		int i = fromIndex, j = middleIndex, k = fromIndex;
+		
+		while (i < middleIndex && j < toIndex) {
+			
+			target[k++] = source[i] <= source[j] ? source[i++] : source[j++];
+		}
+		
+		System.arraycopy(source, i, target, k, middleIndex - i);
+		System.arraycopy(source, j, target, k, toIndex - j);
+	}
+	
+	/**
+	 * Sorts the given array using the insertion sort algorithm.
+	 * <p>
+	 * {@code NaN} values are placed last and {@code -0.0} before {@code 0.0}, matching {@link Float#compare(float, float)}.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void insertionSort(float[] numbers) {
+		
+		int toIndex = moveNaNsToEnd(numbers);
+		
+		insertionSort(numbers, 0, toIndex);
+		orderSignedZeros(numbers, toIndex);
+	}
+	
+	/**
+	 * Sorts a range of the given array using the insertion sort algorithm.
+	 *
+	 * @param numbers   The array to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void insertionSort(float[] numbers, int fromIndex, int toIndex) {
+		
+		for (int i = fromIndex + 1; i < toIndex; i++) {
+			
+			float currentValue = numbers[i];
+			
+			int j = i - 1;
+			
+			while (j >= fromIndex && numbers[j] > currentValue) {
+				
+				numbers[j + 1] = numbers[j];
+				
+				j--;
+			}
+			
+			numbers[j + 1] = currentValue;
+		}
+	}
+	
+	/**
+	 * Sorts the given array using an LSD radix sort with 8-bit digits.
+	 * <p>
+	 * {@code NaN} values are placed last and {@code -0.0} before {@code 0.0}, matching {@link Float#compare(float, float)}.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void radixSort(float[] numbers) {
+		
+		int toIndex = moveNaNsToEnd(numbers);
+		
+		radixSort(numbers, toIndex);
+		orderSignedZeros(numbers, toIndex);
+	}
+	
+	/**
+	 * Sorts the first elements of the given array using an LSD radix sort with 8-bit digits.
+	 *
+	 * @param numbers The array to sort.
+	 * @param length  The number of elements to sort.
+	 */
+	private static void radixSort(float[] numbers, int length) {
+		
+		if (length <= INSERTION_SORT_THRESHOLD) {
+			
+			insertionSort(numbers, 0, length);
+			
+			return;
+		}
+		
+		int[] counts = new int[4 * 256];
+		
+		for (int i = 0; i < length; i++) {
+			
+			int key = sortableBits(numbers[i]);
+			
+			for (int shift = 0; shift < 32; shift += 8) {
+				
+				counts[(shift << 5) + (key >>> shift & 0xFF)]++;
+			}
+		}
+		
+		float[] source = numbers;
+		float[] target = new float[length];
+		
+		for (int shift = 0; shift < 32; shift += 8) {
+			
+			int offset = shift << 5;
+			
+			int key = sortableBits(source[0]);
+			
+			// Every element has the same digit, so this pass would not move anything.
+			if (counts[offset + (key >>> shift & 0xFF)] == length) continue;
+			
+			for (int digit = 0, sum = 0; digit < 256; digit++) {
+				
+				int count = counts[offset + digit];
+				
+				counts[offset + digit] = sum;
+				
+				sum += count;
+			}
+			
+			for (int i = 0; i < length; i++) {
+				
+				float value = source[i];
+				
+				key = sortableBits(value);
+				
+				target[counts[offset + (key >>> shift & 0xFF)]++] = value;
+			}
+			
+			float[] temp = source;
+			
+			source = target;
+			target = temp;
+		}
+		
+		if (source != numbers) System.arraycopy(source, 0, numbers, 0, length);
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the quick sort algorithm.
+	 * <p>
+	 * {@code NaN} values are placed last and {@code -0.0} before {@code 0.0}, matching {@link Double#compare(double, double)}.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void quickSort(double[] numbers) {
+		
+		int toIndex = moveNaNsToEnd(numbers);
+		
+		quickSort(numbers, 0, toIndex);
+		orderSignedZeros(numbers, toIndex);
+	}
+	
+	/**
+	 * Sorts a range of an array using quick sort with a random pivot and three-way partitioning.
+	 *
+	 * @param numbers   The array of numbers to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void quickSort(double[] numbers, int fromIndex, int toIndex) {
+		
+		while (toIndex - fromIndex > INSERTION_SORT_THRESHOLD) {
+			
+			double pivot = numbers[ThreadLocalRandom.current().nextInt(fromIndex, toIndex)];
+			
+			// Invariant: [fromIndex, lessIndex) < pivot, [lessIndex, i) == pivot, [greaterIndex, toIndex) > pivot.
+			int lessIndex = fromIndex;
+			int greaterIndex = toIndex;
+			int i = fromIndex;
+			
+			while (i < greaterIndex) {
+				
+				double value = numbers[i];
+				
+				if (value < pivot) {
+					
+					quickSwap(numbers, lessIndex++, i++);
+					
+				} else if (value > pivot) {
+					
+					quickSwap(numbers, i, --greaterIndex);
+					
+				} else {
+					
+					i++;
+				}
+			}
+			
+			// Recurse into the smaller side and loop on the larger one to keep the stack depth logarithmic.
+			if (lessIndex - fromIndex < toIndex - greaterIndex) {
+				
+				quickSort(numbers, fromIndex, lessIndex);
+				
+				fromIndex = greaterIndex;
+				
+			} else {
+				
+				quickSort(numbers, greaterIndex, toIndex);
+				
+				toIndex = lessIndex;
+			}
+		}
+		
+		insertionSort(numbers, fromIndex, toIndex);
+	}
+	
+	/**
+	 * Swaps two elements in an array.
+	 *
+	 * @param numbers The array of numbers.
+	 * @param index1  The index of the first element.
+	 * @param index2  The index of the second element.
+	 */
+	private static void quickSwap(double[] numbers, int index1, int index2) {
+		
+		double temp = numbers[index1];
+		
+		numbers[index1] = numbers[index2];
+		numbers[index2] = temp;
+	}
+	
+	/**
+	 * Sorts the specified array of numbers using the merge sort algorithm.
+	 * <p>
+	 * {@code NaN} values are placed last and {@code -0.0} before {@code 0.0}, matching {@link Double#compare(double, double)}.
+	 *
+	 * @param numbers The array of numbers to sort.
+	 */
+	public static void mergeSort(double[] numbers) {
+		
+		if (numbers.length < 2) return;
+		
+		int toIndex = moveNaNsToEnd(numbers);
+		
+		mergeSort(Arrays.copyOf(numbers, toIndex), numbers, 0, toIndex);
+		orderSignedZeros(numbers, toIndex);
+	}
+	
+	/**
+	 * Sorts a range of the source array into the same range of the target array using the merge sort algorithm.
+	 * <p>
+	 * Both arrays must hold the same elements in the range when called.
+	 *
+	 * @param source    The array to sort from.
+	 * @param target    The array the sorted range is written to.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void mergeSort(double[] source, double[] target, int fromIndex, int toIndex) {
+		
+		if (toIndex - fromIndex <= INSERTION_SORT_THRESHOLD) {
+			
+			insertionSort(target, fromIndex, toIndex);
+			
+			return;
+		}
+		
+		int middleIndex = (fromIndex + toIndex) >>> 1;
+		
+		mergeSort(target, source, fromIndex, middleIndex);
+		mergeSort(target, source, middleIndex, toIndex);
+		
+		if (source[middleIndex - 1] <= source[middleIndex]) {
+			
+			System.arraycopy(source, fromIndex, target, fromIndex, toIndex - fromIndex);
+			
+			return;
+		}
+		
+		int i = fromIndex, j = middleIndex, k = fromIndex;
+		
+		while (i < middleIndex && j < toIndex) {
+			
+			target[k++] = source[i] <= source[j] ? source[i++] : source[j++];
+		}
+		
+		System.arraycopy(source, i, target, k, middleIndex - i);
+		System.arraycopy(source, j, target, k, toIndex - j);
+	}
+	
+	/**
+	 * Sorts the given array using the insertion sort algorithm.
+	 * <p>
+	 * {@code NaN} values are placed last and {@code -0.0} before {@code 0.0}, matching {@link Double#compare(double, double)}.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void insertionSort(double[] numbers) {
+		
+		int toIndex = moveNaNsToEnd(numbers);
+		
+		insertionSort(numbers, 0, toIndex);
+		orderSignedZeros(numbers, toIndex);
+	}
+	
+	/**
+	 * Sorts a range of the given array using the insertion sort algorithm.
+	 *
+	 * @param numbers   The array to sort.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void insertionSort(double[] numbers, int fromIndex, int toIndex) {
+		
+		for (int i = fromIndex + 1; i < toIndex; i++) {
+			
+			double currentValue = numbers[i];
+			
+			int j = i - 1;
+			
+			while (j >= fromIndex && numbers[j] > currentValue) {
+				
+				numbers[j + 1] = numbers[j];
+				
+				j--;
+			}
+			
+			numbers[j + 1] = currentValue;
+		}
+	}
+	
+	/**
+	 * Sorts the given array using an LSD radix sort with 8-bit digits.
+	 * <p>
+	 * {@code NaN} values are placed last and {@code -0.0} before {@code 0.0}, matching {@link Double#compare(double, double)}.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void radixSort(double[] numbers) {
+		
+		int toIndex = moveNaNsToEnd(numbers);
+		
+		radixSort(numbers, toIndex);
+		orderSignedZeros(numbers, toIndex);
+	}
+	
+	/**
+	 * Sorts the first elements of the given array using an LSD radix sort with 8-bit digits.
+	 *
+	 * @param numbers The array to sort.
+	 * @param length  The number of elements to sort.
+	 */
+	private static void radixSort(double[] numbers, int length) {
+		
+		if (length <= INSERTION_SORT_THRESHOLD) {
+			
+			insertionSort(numbers, 0, length);
+			
+			return;
+		}
+		
+		int[] counts = new int[8 * 256];
+		
+		for (int i = 0; i < length; i++) {
+			
+			long key = sortableBits(numbers[i]);
+			
+			for (int shift = 0; shift < 64; shift += 8) {
+				
+				counts[(shift << 5) + ((int) (key >>> shift) & 0xFF)]++;
+			}
+		}
+		
+		double[] source = numbers;
+		double[] target = new double[length];
+		
+		for (int shift = 0; shift < 64; shift += 8) {
+			
+			int offset = shift << 5;
+			
+			long key = sortableBits(source[0]);
+			
+			// Every element has the same digit, so this pass would not move anything.
+			if (counts[offset + ((int) (key >>> shift) & 0xFF)] == length) continue;
+			
+			for (int digit = 0, sum = 0; digit < 256; digit++) {
+				
+				int count = counts[offset + digit];
+				
+				counts[offset + digit] = sum;
+				
+				sum += count;
+			}
+			
+			for (int i = 0; i < length; i++) {
+				
+				double value = source[i];
+				
+				key = sortableBits(value);
+				
+				target[counts[offset + ((int) (key >>> shift) & 0xFF)]++] = value;
+			}
+			
+			double[] temp = source;
+			
+			source = target;
+			target = temp;
+		}
+		
+		if (source != numbers) System.arraycopy(source, 0, numbers, 0, length);
+	}
+	
+	/**
+	 * Move every {@code NaN} in the array to the end of it.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The number of elements that are not {@code NaN}, which now come first.
+	 */
+	private static int moveNaNsToEnd(float[] numbers) {
+		
+		int toIndex = numbers.length;
+		
+		for (int i = toIndex - 1; i >= 0; i--) {
+			
+			float value = numbers[i];
+			
+			if (value != value) {
+				
+				numbers[i] = numbers[--toIndex];
+				numbers[toIndex] = value;
+			}
+		}
+		
+		return toIndex;
+	}
+	
+	/**
+	 * Put the negative zeros in front of the positive zeros in a sorted array.
+	 * <p>
+	 * The sorts compare with {@code <}, which treats {@code -0.0} and {@code 0.0} as equal, so they end up mixed together.
+	 *
+	 * @param numbers The sorted array of numbers.
+	 * @param toIndex The index of the last sorted element, exclusive.
+	 */
+	private static void orderSignedZeros(float[] numbers, int toIndex) {
+		
+		int lowIndex = 0;
+		int highIndex = toIndex;
+		
+		// Find the first zero.
+		while (lowIndex < highIndex) {
+			
+			int middleIndex = (lowIndex + highIndex) >>> 1;
+			
+			if (numbers[middleIndex] < 0) lowIndex = middleIndex + 1;
+			else highIndex = middleIndex;
+		}
+		
+		int negativeZeros = 0;
+		int zeroIndex = lowIndex;
+		
+		for (; zeroIndex < toIndex && numbers[zeroIndex] == 0; zeroIndex++) {
+			
+			if (Float.floatToRawIntBits(numbers[zeroIndex]) < 0) negativeZeros++;
+		}
+		
+		for (int i = lowIndex; i < zeroIndex; i++) {
+			
+			numbers[i] = i < lowIndex + negativeZeros ? -0.0f : 0.0f;
+		}
+	}
+	
+	/**
+	 * Get the bits of a number, transformed so that comparing them as unsigned integers orders the numbers.
+	 *
+	 * @param value The number.
+	 * @return The sortable bits of the number.
+	 */
+	private static int sortableBits(float value) {
+		
+		int bits = Float.floatToRawIntBits(value);
+		
+		return bits ^ (bits >> 31 | Integer.MIN_VALUE);
+	}
+	
+	/**
+	 * Move every {@code NaN} in the array to the end of it.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The number of elements that are not {@code NaN}, which now come first.
+	 */
+	private static int moveNaNsToEnd(double[] numbers) {
+		
+		int toIndex = numbers.length;
+		
+		for (int i = toIndex - 1; i >= 0; i--) {
+			
+			double value = numbers[i];
+			
+			if (value != value) {
+				
+				numbers[i] = numbers[--toIndex];
+				numbers[toIndex] = value;
+			}
+		}
+		
+		return toIndex;
+	}
+	
+	/**
+	 * Put the negative zeros in front of the positive zeros in a sorted array.
+	 * <p>
+	 * The sorts compare with {@code <}, which treats {@code -0.0} and {@code 0.0} as equal, so they end up mixed together.
+	 *
+	 * @param numbers The sorted array of numbers.
+	 * @param toIndex The index of the last sorted element, exclusive.
+	 */
+	private static void orderSignedZeros(double[] numbers, int toIndex) {
+		
+		int lowIndex = 0;
+		int highIndex = toIndex;
+		
+		// Find the first zero.
+		while (lowIndex < highIndex) {
+			
+			int middleIndex = (lowIndex + highIndex) >>> 1;
+			
+			if (numbers[middleIndex] < 0) lowIndex = middleIndex + 1;
+			else highIndex = middleIndex;
+		}
+		
+		int negativeZeros = 0;
+		int zeroIndex = lowIndex;
+		
+		for (; zeroIndex < toIndex && numbers[zeroIndex] == 0; zeroIndex++) {
+			
+			if (Double.doubleToRawLongBits(numbers[zeroIndex]) < 0) negativeZeros++;
+		}
+		
+		for (int i = lowIndex; i < zeroIndex; i++) {
+			
+			numbers[i] = i < lowIndex + negativeZeros ? -0.0 : 0.0;
+		}
+	}
+	
+	/**
+	 * Get the bits of a number, transformed so that comparing them as unsigned integers orders the numbers.
+	 *
+	 * @param value The number.
+	 * @return The sortable bits of the number.
+	 */
+	private static long sortableBits(double value) {
+		
+		long bits = Double.doubleToRawLongBits(value);
+		
+		return bits ^ (bits >> 63 | Long.MIN_VALUE);
+	}
+	
+	/**
+	 * Sorts the specified array using the quick sort algorithm and the given comparator.
+	 * <p>
+	 * The sort is not stable. When the order is defined by an {@code int} or {@code long} key,
+	 * {@link #sortByIntKey(Object[], ToIntFunction)} and {@link #sortByLongKey(Object[], ToLongFunction)} are faster.
+	 *
+	 * @param items      The array to sort.
+	 * @param comparator The comparator to order the elements by.
+	 * @param <T>        The type of the elements.
+	 */
+	public static <T> void quickSort(T[] items, Comparator<? super T> comparator) {
+		
+		quickSort(items, 0, items.length, comparator);
+	}
+	
+	/**
+	 * Sorts the specified list using the quick sort algorithm and the given comparator.
+	 *
+	 * @param items      The list to sort.
+	 * @param comparator The comparator to order the elements by.
+	 * @param <T>        The type of the elements.
+	 * @see #quickSort(Object[], Comparator)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> void quickSort(List<T> items, Comparator<? super T> comparator) {
+		
+		T[] array = (T[]) items.toArray();
+		
+		quickSort(array, comparator);
+		
+		setAll(items, array);
+	}
+	
+	/**
+	 * Sorts a range of an array using quick sort with a random pivot and three-way partitioning.
+	 *
+	 * @param items      The array to sort.
+	 * @param fromIndex  The index of the first element, inclusive.
+	 * @param toIndex    The index of the last element, exclusive.
+	 * @param comparator The comparator to order the elements by.
+	 * @param <T>        The type of the elements.
+	 */
+	private static <T> void quickSort(T[] items, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+		
+		while (toIndex - fromIndex > INSERTION_SORT_THRESHOLD) {
+			
+			T pivot = items[ThreadLocalRandom.current().nextInt(fromIndex, toIndex)];
+			
+			// Invariant: [fromIndex, lessIndex) < pivot, [lessIndex, i) == pivot, [greaterIndex, toIndex) > pivot.
+			int lessIndex = fromIndex;
+			int greaterIndex = toIndex;
+			int i = fromIndex;
+			
+			while (i < greaterIndex) {
+				
+				int order = comparator.compare(items[i], pivot);
+				
+				if (order < 0) {
+					
+					quickSwap(items, lessIndex++, i++);
+					
+				} else if (order > 0) {
+					
+					quickSwap(items, i, --greaterIndex);
+					
+				} else {
+					
+					i++;
+				}
+			}
+			
+			// Recurse into the smaller side and loop on the larger one to keep the stack depth logarithmic.
+			if (lessIndex - fromIndex < toIndex - greaterIndex) {
+				
+				quickSort(items, fromIndex, lessIndex, comparator);
+				
+				fromIndex = greaterIndex;
+				
+			} else {
+				
+				quickSort(items, greaterIndex, toIndex, comparator);
+				
+				toIndex = lessIndex;
+			}
+		}
+		
+		insertionSort(items, fromIndex, toIndex, comparator);
+	}
+	
+	/**
+	 * Swaps two elements in an array.
+	 *
+	 * @param items  The array of elements.
+	 * @param index1 The index of the first element.
+	 * @param index2 The index of the second element.
+	 */
+	private static void quickSwap(Object[] items, int index1, int index2) {
+		
+		Object temp = items[index1];
+		
+		items[index1] = items[index2];
+		items[index2] = temp;
+	}
+	
+	/**
+	 * Sorts the specified array using the merge sort algorithm and the given comparator.
+	 * <p>
+	 * The sort is stable, equal elements keep their relative order.
+	 *
+	 * @param items      The array to sort.
+	 * @param comparator The comparator to order the elements by.
+	 * @param <T>        The type of the elements.
+	 */
+	public static <T> void mergeSort(T[] items, Comparator<? super T> comparator) {
+		
+		if (items.length < 2) return;
+		
+		mergeSort(items.clone(), items, 0, items.length, comparator);
+	}
+	
+	/**
+	 * Sorts the specified list using the merge sort algorithm and the given comparator.
+	 *
+	 * @param items      The list to sort.
+	 * @param comparator The comparator to order the elements by.
+	 * @param <T>        The type of the elements.
+	 * @see #mergeSort(Object[], Comparator)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> void mergeSort(List<T> items, Comparator<? super T> comparator) {
+		
+		T[] array = (T[]) items.toArray();
+		
+		mergeSort(array, comparator);
+		
+		setAll(items, array);
+	}
+	
+	/**
+	 * Sorts a range of the source array into the same range of the target array using the merge sort algorithm.
+	 * <p>
+	 * Both arrays must hold the same elements in the range when called.
+	 *
+	 * @param source     The array to sort from.
+	 * @param target     The array the sorted range is written to.
+	 * @param fromIndex  The index of the first element, inclusive.
+	 * @param toIndex    The index of the last element, exclusive.
+	 * @param comparator The comparator to order the elements by.
+	 * @param <T>        The type of the elements.
+	 */
+	private static <T> void mergeSort(T[] source, T[] target, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+		
+		if (toIndex - fromIndex <= INSERTION_SORT_THRESHOLD) {
+			
+			insertionSort(target, fromIndex, toIndex, comparator);
+			
+			return;
+		}
+		
+		int middleIndex = (fromIndex + toIndex) >>> 1;
+		
+		mergeSort(target, source, fromIndex, middleIndex, comparator);
+		mergeSort(target, source, middleIndex, toIndex, comparator);
+		
+		if (comparator.compare(source[middleIndex - 1], source[middleIndex]) <= 0) {
+			
+			System.arraycopy(source, fromIndex, target, fromIndex, toIndex - fromIndex);
+			
+			return;
+		}
+		
+		int i = fromIndex, j = middleIndex, k = fromIndex;
+		
+		while (i < middleIndex && j < toIndex) {
+			
+			target[k++] = comparator.compare(source[i], source[j]) <= 0 ? source[i++] : source[j++];
+		}
+		
+		System.arraycopy(source, i, target, k, middleIndex - i);
+		System.arraycopy(source, j, target, k, toIndex - j);
+	}
+	
+	/**
+	 * Sorts the specified array using an in-place merge sort and the given comparator, in constant extra memory.
+	 * <p>
+	 * The sort is stable, equal elements keep their relative order. Blocks are insertion sorted and then merged
+	 * bottom-up with the symmetric merge of Kim and Kutzner, which splits both runs so that swapping the middle parts
+	 * with a rotation leaves two smaller independent merges. This takes {@code O(n log^2 n)} time
+	 * and {@code O(log n)} stack, instead of the {@code n} extra elements {@link #mergeSort(Object[], Comparator)} needs.
+	 *
+	 * @param items      The array to sort.
+	 * @param comparator The comparator to order the elements by.
+	 * @param <T>        The type of the elements.
+	 * @see #inPlaceMergeSort(Object[], Comparator, Object[])
+	 */
+	public static <T> void inPlaceMergeSort(T[] items, Comparator<? super T> comparator) {
+		
+		inPlaceMergeSort(items, comparator, Arrays.copyOf(items, 0));
+	}
+	
+	/**
+	 * Sorts the specified array using an in-place merge sort and the given comparator,
+	 * using a fixed buffer of any size to speed up the merges.
+	 * <p>
+	 * The sort is stable, equal elements keep their relative order. Merges where the shorter run fits in the buffer
+	 * are done through it in linear time, as are the smaller merges a symmetric merge splits into once they fit,
+	 * so even a buffer of a few hundred elements recovers most of the speed of {@link #mergeSort(Object[], Comparator)}.
+	 * The buffer is cleared again before returning, and nothing else is allocated.
+	 *
+	 * @param items      The array to sort.
+	 * @param comparator The comparator to order the elements by.
+	 * @param buffer     The scratch buffer, which may be empty.
+	 * @param <T>        The type of the elements.
+	 */
+	public static <T> void inPlaceMergeSort(T[] items, Comparator<? super T> comparator, T[] buffer) {
+		
+		int length = items.length;
+		
+		// The bounds are stepped as longs, so stepping past the end of an array longer than 2^30 cannot overflow.
+		for (long fromIndex = 0; fromIndex < length; fromIndex += INSERTION_SORT_THRESHOLD) {
+			
+			insertionSort(items, (int) fromIndex, (int) Math.min(fromIndex + INSERTION_SORT_THRESHOLD, length), comparator);
+		}
+		
+		for (long width = INSERTION_SORT_THRESHOLD; width < length; width <<= 1) {
+			
+			for (long fromIndex = 0; fromIndex + width < length; fromIndex += width << 1) {
+				
+				inPlaceMerge(items, (int) fromIndex, (int) (fromIndex + width), (int) Math.min(fromIndex + (width << 1), length), comparator, buffer);
+			}
+		}
+	}
+	
+	/**
+	 * Merge two adjacent sorted ranges of an array in place, stably.
+	 *
+	 * @param items       The array containing both sorted ranges.
+	 * @param fromIndex   The index of the first element of the left range, inclusive.
+	 * @param middleIndex The index of the first element of the right range.
+	 * @param toIndex     The index of the last element of the right range, exclusive.
+	 * @param comparator  The comparator to order the elements by.
+	 * @param buffer      The scratch buffer, used if one of the ranges fits in it.
+	 * @param <T>         The type of the elements.
+	 */
+	private static <T> void inPlaceMerge(T[] items, int fromIndex, int middleIndex, int toIndex, Comparator<? super T> comparator, T[] buffer) {
+		
+		if (fromIndex == middleIndex || middleIndex == toIndex) return;
+		
+		if (comparator.compare(items[middleIndex - 1], items[middleIndex]) <= 0) return;
+		
+		int leftLength = middleIndex - fromIndex;
+		int rightLength = toIndex - middleIndex;
+		
+		if (leftLength <= buffer.length && leftLength <= rightLength) {
+			
+			System.arraycopy(items, fromIndex, buffer, 0, leftLength);
+			
+			int i = 0, j = middleIndex, k = fromIndex;
+			
+			while (i < leftLength && j < toIndex) {
+				
+				items[k++] = comparator.compare(buffer[i], items[j]) <= 0 ? buffer[i++] : items[j++];
+			}
+			
+			System.arraycopy(buffer, i, items, k, leftLength - i);
+			
+			Arrays.fill(buffer, 0, leftLength, null);
+			
+			return;
+		}
+		
+		if (rightLength <= buffer.length) {
+			
+			System.arraycopy(items, middleIndex, buffer, 0, rightLength);
+			
+			// Merge from the back, taking from the left range only when it is strictly greater to stay stable.
+			int i = middleIndex - 1, j = rightLength - 1, k = toIndex - 1;
+			
+			while (i >= fromIndex && j >= 0) {
+				
+				items[k--] = comparator.compare(items[i], buffer[j]) > 0 ? items[i--] : buffer[j--];
+			}
+			
+			System.arraycopy(buffer, 0, items, fromIndex, j + 1);
+			
+			Arrays.fill(buffer, 0, rightLength, null);
+			
+			return;
+		}
+		
+		if (leftLength == 1) {
+			
+			// Find where the single left element goes and rotate it there.
+			int lowIndex = middleIndex;
+			int highIndex = toIndex;
+			
+			while (lowIndex < highIndex) {
+				
+				int index = (lowIndex + highIndex) >>> 1;
+				
+				if (comparator.compare(items[index], items[fromIndex]) < 0) lowIndex = index + 1;
+				else highIndex = index;
+			}
+			
+			rotate(items, fromIndex, middleIndex, lowIndex);
+			
+			return;
+		}
+		
+		if (rightLength == 1) {
+			
+			// Find where the single right element goes, after any equal left elements, and rotate it there.
+			int lowIndex = fromIndex;
+			int highIndex = middleIndex;
+			
+			while (lowIndex < highIndex) {
+				
+				int index = (lowIndex + highIndex) >>> 1;
+				
+				if (comparator.compare(items[middleIndex], items[index]) >= 0) lowIndex = index + 1;
+				else highIndex = index;
+			}
+			
+			rotate(items, lowIndex, middleIndex, toIndex);
+			
+			return;
+		}
+		
+		// Find the split of the left range such that its tail and the head of the right range, which are swapped,
+		// end up centered on the middle of the whole range.
+		int centerIndex = (fromIndex + toIndex) >>> 1;
+		int sum = centerIndex + middleIndex;
+		
+		int lowIndex = middleIndex > centerIndex ? sum - toIndex : fromIndex;
+		int highIndex = middleIndex > centerIndex ? centerIndex : middleIndex;
+		
+		while (lowIndex < highIndex) {
+			
+			int index = (lowIndex + highIndex) >>> 1;
+			
+			if (comparator.compare(items[sum - 1 - index], items[index]) >= 0) lowIndex = index + 1;
+			else highIndex = index;
+		}
+		
+		int endIndex = sum - lowIndex;
+		
+		rotate(items, lowIndex, middleIndex, endIndex);
+		
+		inPlaceMerge(items, fromIndex, lowIndex, centerIndex, comparator, buffer);
+		inPlaceMerge(items, centerIndex, endIndex, toIndex, comparator, buffer);
+	}
+	
+	/**
+	 * Rotate a range of an array so the element at the middle index becomes the first, using three reversals.
+	 *
+	 * @param items       The array of elements.
+	 * @param fromIndex   The index of the first element, inclusive.
+	 * @param middleIndex The index of the element to move to the front.
+	 * @param toIndex     The index of the last element, exclusive.
+	 */
+	private static void rotate(Object[] items, int fromIndex, int middleIndex, int toIndex) {
+		
+		if (fromIndex == middleIndex || middleIndex == toIndex) return;
+		
+		reverse(items, fromIndex, middleIndex);
+		reverse(items, middleIndex, toIndex);
+		reverse(items, fromIndex, toIndex);
+	}
+	
+	/**
+	 * Reverse a range of an array.
+	 *
+	 * @param items     The array of elements.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 */
+	private static void reverse(Object[] items, int fromIndex, int toIndex) {
+		
+		for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
+			
+			quickSwap(items, i, j);
+		}
+	}
+	
+	/**
+	 * Sorts the given array using the insertion sort algorithm and the given comparator.
+	 *
+	 * @param items      The array to sort.
+	 * @param comparator The comparator to order the elements by.
+	 * @param <T>        The type of the elements.
+	 */
+	public static <T> void insertionSort(T[] items, Comparator<? super T> comparator) {
+		
+		insertionSort(items, 0, items.length, comparator);
+	}
+	
+	/**
+	 * Sorts the given list using the insertion sort algorithm and the given comparator.
+	 *
+	 * @param items      The list to sort.
+	 * @param comparator The comparator to order the elements by.
+	 * @param <T>        The type of the elements.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> void insertionSort(List<T> items, Comparator<? super T> comparator) {
+		
+		T[] array = (T[]) items.toArray();
+		
+		insertionSort(array, comparator);
+		
+		setAll(items, array);
+	}
+	
+	/**
+	 * Sorts a range of the given array using the insertion sort algorithm.
+	 *
+	 * @param items      The array to sort.
+	 * @param fromIndex  The index of the first element, inclusive.
+	 * @param toIndex    The index of the last element, exclusive.
+	 * @param comparator The comparator to order the elements by.
+	 * @param <T>        The type of the elements.
+	 */
+	private static <T> void insertionSort(T[] items, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+		
+		for (int i = fromIndex + 1; i < toIndex; i++) {
+			
+			T currentValue = items[i];
+			
+			int j = i - 1;
+			
+			while (j >= fromIndex && comparator.compare(items[j], currentValue) > 0) {
+				
+				items[j + 1] = items[j];
+				
+				j--;
+			}
+			
+			items[j + 1] = currentValue;
+		}
+	}
+	
+	/**
+	 * Replace the elements of a list with the elements of an array of the same length.
+	 *
+	 * @param items The list to write to.
+	 * @param array The array to read from.
+	 * @param <T>   The type of the elements.
+	 */
+	private static <T> void setAll(List<T> items, T[] array) {
+		
+		ListIterator<T> iterator = items.listIterator();
+		
+		for (T item : array) {
+			
+			iterator.next();
+			iterator.set(item);
+		}
+	}
+	
+	/**
+	 * Sorts the specified array by an {@code int} key.
+	 * <p>
+	 * The key of every element is extracted exactly once, and the keys are radix sorted together with the
+	 * original positions of the elements, which are then used to permute the array. No comparator is called,
+	 * so the hot loop never goes through a virtual call. The sort is stable.
+	 *
+	 * @param items The array to sort.
+	 * @param key   The function extracting the key to order the elements by.
+	 * @param <T>   The type of the elements.
+	 */
+	public static <T> void sortByIntKey(T[] items, ToIntFunction<? super T> key) {
+		
+		int length = items.length;
+		
+		if (length < 2) return;
+		
+		int[] keys = new int[length];
+		
+		for (int i = 0; i < length; i++) {
+			
+			keys[i] = key.applyAsInt(items[i]);
+		}
+		
+		int[] permutation = argSort(keys);
+		
+		T[] copy = items.clone();
+		
+		for (int i = 0; i < length; i++) {
+			
+			items[i] = copy[permutation[i]];
+		}
+	}
+	
+	/**
+	 * Sorts the specified list by an {@code int} key.
+	 *
+	 * @param items The list to sort.
+	 * @param key   The function extracting the key to order the elements by.
+	 * @param <T>   The type of the elements.
+	 * @see #sortByIntKey(Object[], ToIntFunction)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> void sortByIntKey(List<T> items, ToIntFunction<? super T> key) {
+		
+		T[] array = (T[]) items.toArray();
+		
+		sortByIntKey(array, key);
+		
+		setAll(items, array);
+	}
+	
+	/**
+	 * Sorts the specified array by a {@code long} key.
+	 * <p>
+	 * The key of every element is extracted exactly once, and the keys are radix sorted together with the
+	 * original positions of the elements, which are then used to permute the array. The sort is stable.
+	 *
+	 * @param items The array to sort.
+	 * @param key   The function extracting the key to order the elements by.
+	 * @param <T>   The type of the elements.
+	 */
+	public static <T> void sortByLongKey(T[] items, ToLongFunction<? super T> key) {
+		
+		int length = items.length;
+		
+		if (length < 2) return;
+		
+		long[] keys = new long[length];
+		int[] indices = new int[length];
+		
+		for (int i = 0; i < length; i++) {
+			
+			keys[i] = key.applyAsLong(items[i]);
+			indices[i] = i;
+		}
+		
+		radixSort(keys, indices);
+		
+		T[] copy = items.clone();
+		
+		for (int i = 0; i < length; i++) {
+			
+			items[i] = copy[indices[i]];
+		}
+	}
+	
+	/**
+	 * Sorts the specified list by a {@code long} key.
+	 *
+	 * @param items The list to sort.
+	 * @param key   The function extracting the key to order the elements by.
+	 * @param <T>   The type of the elements.
+	 * @see #sortByLongKey(Object[], ToLongFunction)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> void sortByLongKey(List<T> items, ToLongFunction<? super T> key) {
+		
+		T[] array = (T[]) items.toArray();
+		
+		sortByLongKey(array, key);
+		
+		setAll(items, array);
+	}
+	
+	/**
+	 * Get the permutation that sorts the given keys, without modifying them.
+	 * <p>
+	 * Element {@code i} of the result is the index of the key that belongs at position {@code i} in sorted order.
+	 * Equal keys keep their original order.
+	 *
+	 * @param keys The array of keys.
+	 * @return The permutation that sorts the keys.
+	 */
+	public static int[] argSort(int[] keys) {
+		
+		long[] packed = packKeys(keys);
+		
+		int[] permutation = new int[packed.length];
+		
+		for (int i = 0; i < packed.length; i++) {
+			
+			permutation[i] = (int) packed[i];
+		}
+		
+		return permutation;
+	}
+	
+	/**
+	 * Sorts the given keys and applies the same reordering to every payload column.
+	 * <p>
+	 * This is for columnar data, where the fields of each row live at the same index of separate arrays.
+	 * The sort is stable, and each payload is permuted with a single gather pass through a shared scratch buffer.
+	 * Every payload must be a distinct array other than the keys, since a column passed twice would be permuted twice.
+	 *
+	 * @param keys     The array of keys to sort.
+	 * @param payloads The payload columns to reorder along with the keys.
+	 * @throws IllegalArgumentException If a payload is not the same length as the keys, is the keys array itself
+	 *                                  or is passed more than once throw this exception.
+	 */
+	public static void sortByKey(int[] keys, int[]... payloads) {
+		
+		int length = keys.length;
+		
+		for (int i = 0; i < payloads.length; i++) {
+			
+			int[] payload = payloads[i];
+			
+			if (payload.length != length)
+				
+				throw new IllegalArgumentException("Every payload must be the same length as the keys.");
+			
+			if (payload == keys)
+				
+				throw new IllegalArgumentException("The keys cannot also be a payload.");
+			
+			for (int j = 0; j < i; j++) {
+				
+				if (payloads[j] == payload)
+					
+					throw new IllegalArgumentException("Every payload must be a different array.");
+			}
+		}
+		
+		long[] packed = packKeys(keys);
+		
+		int[] permutation = new int[length];
+		
+		for (int i = 0; i < length; i++) {
+			
+			keys[i] = (int) (packed[i] >> 32);
+			permutation[i] = (int) packed[i];
+		}
+		
+		int[] scratch = new int[length];
+		
+		for (int[] payload : payloads) {
+			
+			System.arraycopy(payload, 0, scratch, 0, length);
+			
+			for (int i = 0; i < length; i++) {
+				
+				payload[i] = scratch[permutation[i]];
+			}
+		}
+	}
+	
+	/**
+	 * Pack every key together with its index into a long and sort the result.
+	 * <p>
+	 * The key goes in the high half and the index in the low half, so the packed values sort by key
+	 * and equal keys keep their order.
+	 *
+	 * @param keys The array of keys.
+	 * @return The sorted packed keys and indices.
+	 */
+	private static long[] packKeys(int[] keys) {
+		
+		long[] packed = new long[keys.length];
+		
+		for (int i = 0; i < keys.length; i++) {
+			
+			packed[i] = (long) keys[i] << 32 | i;
+		}
+		
+		radixSort(packed);
+		
+		return packed;
+	}
+	
+	/**
+	 * Sorts an array of keys using a stable LSD radix sort with 8-bit digits, moving the values along with them.
+	 *
+	 * @param keys   The array of keys to sort.
+	 * @param values The array of values, at least as long as the keys.
+	 */
+	private static void radixSort(long[] keys, int[] values) {
+		
+		int length = keys.length;
+		
+		int[] counts = new int[8 * 256];
+		
+		for (int i = 0; i < length; i++) {
+			
+			long key = keys[i] ^ Long.MIN_VALUE;
+			
+			for (int shift = 0; shift < 64; shift += 8) {
+				
+				counts[(shift << 5) + ((int) (key >>> shift) & 0xFF)]++;
+			}
+		}
+		
+		long[] sourceKeys = keys;
+		long[] targetKeys = new long[length];
+		int[] sourceValues = values;
+		int[] targetValues = new int[length];
+		
+		for (int shift = 0; shift < 64; shift += 8) {
+			
+			int offset = shift << 5;
+			
+			// Every key has the same digit, so this pass would not move anything.
+			if (counts[offset + ((int) ((sourceKeys[0] ^ Long.MIN_VALUE) >>> shift) & 0xFF)] == length) continue;
+			
+			for (int digit = 0, sum = 0; digit < 256; digit++) {
+				
+				int count = counts[offset + digit];
+				
+				counts[offset + digit] = sum;
+				
+				sum += count;
+			}
+			
+			for (int i = 0; i < length; i++) {
+				
+				long key = sourceKeys[i];
+				int position = counts[offset + ((int) ((key ^ Long.MIN_VALUE) >>> shift) & 0xFF)]++;
+				
+				targetKeys[position] = key;
+				targetValues[position] = sourceValues[i];
+			}
+			
+			long[] tempKeys = sourceKeys;
+			int[] tempValues = sourceValues;
+			
+			sourceKeys = targetKeys;
+			sourceValues = targetValues;
+			targetKeys = tempKeys;
+			targetValues = tempValues;
+		}
+		
+		if (sourceKeys != keys) {
+			
+			System.arraycopy(sourceKeys, 0, keys, 0, length);
+			System.arraycopy(sourceValues, 0, values, 0, length);
+		}
+	}
+	
+	/**
+	 * Sorts the remaining elements of the given buffer using the introsort algorithm.
+	 * <p>
+	 * The elements between the position and the limit of the buffer are sorted in place, using only absolute
+	 * reads and writes, so the position and limit are left untouched. No scratch memory is needed, which makes
+	 * it suitable for direct and memory-mapped buffers holding more data than would fit on the heap.
+	 *
+	 * @param buffer The buffer to sort.
+	 */
+	public static void introSort(IntBuffer buffer) {
+		
+		FileSorts.introSort(buffer);
+	}
+	
+	/**
+	 * Sorts the remaining elements of the given buffer using the introsort algorithm.
+	 * <p>
+	 * The elements between the position and the limit of the buffer are sorted in place, using only absolute
+	 * reads and writes, so the position and limit are left untouched. No scratch memory is needed, which makes
+	 * it suitable for direct and memory-mapped buffers holding more data than would fit on the heap.
+	 *
+	 * @param buffer The buffer to sort.
+	 */
+	public static void introSort(LongBuffer buffer) {
+		
+		FileSorts.introSort(buffer);
+	}
+	
+	/**
+	 * Sorts a file of big-endian {@code int} or {@code long} records in place using the introsort algorithm.
+	 * <p>
+	 * The file is memory-mapped in windows of 1 GiB and indexed with {@code long}s, so unlike
+	 * {@link #introSort(IntBuffer)} it is not limited to {@code 2^31} elements: it can hold billions of records and
+	 * be far larger than the heap. Only the pages being touched need to be in memory, nothing is allocated per record,
+	 * and the sorted records are forced to the storage device before returning.
+	 *
+	 * @param channel    The channel of the file to sort, open for reading and writing.
+	 * @param recordSize The size of a record in bytes, either {@link Integer#BYTES} or {@link Long#BYTES}.
+	 * @throws IOException              If the file could not be mapped throw this exception.
+	 * @throws IllegalArgumentException If the record size is invalid or the file is not a whole number of records
+	 *                                  throw this exception.
+	 */
+	public static void introSort(FileChannel channel, int recordSize) throws IOException {
+		
+		FileSorts.introSort(channel, recordSize);
+	}
+	
+	/**
+	 * Sorts a binary file of big-endian {@code int} or {@code long} records, using the heap budget and
+	 * parallelism derived from the running JVM.
+	 *
+	 * @param input      The file to sort.
+	 * @param output     The file to write the sorted records to.
+	 * @param recordSize The size of a record in bytes, either {@link Integer#BYTES} or {@link Long#BYTES}.
+	 * @throws IOException If the files could not be read or written throw this exception.
+	 * @see #externalSort(Path, Path, int, long, int)
+	 */
+	public static void externalSort(Path input, Path output, int recordSize) throws IOException {
+		
+		Runtime runtime = Runtime.getRuntime();
+		
+		externalSort(input, output, recordSize, runtime.maxMemory() / 4, runtime.availableProcessors());
+	}
+	
+	/**
+	 * Sorts a binary file of big-endian {@code int} or {@code long} records that may be larger than memory.
+	 * <p>
+	 * The input is read in runs sized to fit the budget, and each run is radix sorted and spilled to a
+	 * temporary file next to the output, with several runs sorted in parallel. The runs are then merged into the
+	 * output through a loser tree. When the whole input fits in a single run it is sorted without spilling.
+	 * Either way the result is written to a temporary file next to the output and moved over it at the end,
+	 * so the output may be the input itself, which is only replaced once it has been sorted successfully.
+	 *
+	 * @param input        The file to sort.
+	 * @param output       The file to write the sorted records to.
+	 * @param recordSize   The size of a record in bytes, either {@link Integer#BYTES} or {@link Long#BYTES}.
+	 * @param memoryBudget The approximate number of heap bytes to use for sorting runs.
+	 * @param parallelism  The number of runs to sort at the same time.
+	 * @throws IOException              If the files could not be read or written throw this exception.
+	 * @throws IllegalArgumentException If the record size, budget or parallelism is invalid, or the input is not
+	 *                                  a whole number of records throw this exception.
+	 */
+	public static void externalSort(Path input, Path output, int recordSize, long memoryBudget, int parallelism) throws IOException {
+		
+		FileSorts.externalSort(input, output, recordSize, memoryBudget, parallelism);
+	}
+	
+	/**
+	 * Lazily merge sorted arrays into a single sorted sequence.
+	 *
+	 * @param arrays The sorted arrays to merge.
+	 * @return An iterator over the merged values.
+	 * @see #merge(PrimitiveIterator.OfInt...)
+	 */
+	public static PrimitiveIterator.OfInt merge(int[]... arrays) {
+		
+		return SortedMerges.merge(arrays);
+	}
+	
+	/**
+	 * Lazily merge sorted sources into a single sorted sequence.
+	 * <p>
+	 * The sources are merged through a loser tree, so each value costs {@code log2(k)} comparisons for {@code k}
+	 * sources and nothing is buffered beyond the current head of every source. Values that compare equal come
+	 * from the earlier source first. The sources must not be used elsewhere while the merge is in progress.
+	 *
+	 * @param sources The sorted sources to merge.
+	 * @return An iterator over the merged values.
+	 */
+	public static PrimitiveIterator.OfInt merge(PrimitiveIterator.OfInt... sources) {
+		
+		return SortedMerges.merge(sources);
+	}
+	
+	/**
+	 * Lazily merge sorted sources into a single sorted sequence.
+	 *
+	 * @param sources The sorted sources to merge.
+	 * @return An iterator over the merged values.
+	 * @see #merge(PrimitiveIterator.OfInt...)
+	 */
+	public static PrimitiveIterator.OfLong merge(PrimitiveIterator.OfLong... sources) {
+		
+		return SortedMerges.merge(sources);
+	}
+	
+	/**
+	 * Sorts the given array using the bubble sort algorithm.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void bubbleSort(int[] numbers) {
+		
+		boolean hasSwapped;
+		
+		do {
+			
+			hasSwapped = false;
+			
+			for (int i = 0; i < numbers.length - 1; i++) {
+				
+				if (numbers[i] > numbers[i + 1]) {
+					
+					hasSwapped = true;
+					
+					int temp = numbers[i];
+					
+					numbers[i] = numbers[i + 1];
+					numbers[i + 1] = temp;
+				}
+			}
+			
+		} while (hasSwapped);
+	}
+	
+	/**
+	 * Sorts the given array using the bogo sort algorithm.
+	 *
+	 * @param numbers The array to sort.
+	 */
+	public static void bogoSort(List<Integer> numbers) {
+		
+		while (!isBogoSorted(numbers)) {
+			
+			Collections.shuffle(numbers);
+		}
+	}
+	
+	/**
+	 * Checks if the list is sorted.
+	 *
+	 * @param numbers The list to check.
+	 * @return True if the list is sorted, false otherwise.
+	 */
+	private static boolean isBogoSorted(List<Integer> numbers) {
+		
+		if (numbers == null) return true;
+		
+		int length = numbers.size();
+		
+		if (length <= 1) return true;
+		
+		for (int i = 0; i < length - 1; i++) {
+			
+			if (numbers.get(i) > numbers.get(i + 1)) return false;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Get the distinct values of an array in ascending order, without modifying it.
+	 * <p>
+	 * If the values span a range no more than 32 times as wide as the array is long, they are marked in a bitmap
+	 * no larger than the array and read back in order, in {@code O(n + k / 64)} time and without sorting at all.
+	 * Otherwise a copy is sorted and compacted in place as with {@link #sortDistinctInPlace(int[])}.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return A new array holding every distinct value once, in ascending order.
+	 */
+	public static int[] sortDistinct(int[] numbers) {
+		
+		int[] distinct = numbers.clone();
+		
+		int count = sortDistinctInPlace(distinct);
+		
+		return count == distinct.length ? distinct : Arrays.copyOf(distinct, count);
+	}
+	
+	/**
+	 * Sorts an array and moves every distinct value to the front of it, once each.
+	 * <p>
+	 * Uses a bitmap like {@link #sortDistinct(int[])} when the range of values allows it. Otherwise the array is
+	 * sorted with {@link #sort(int[])} and compacted by a single scan that keeps each value that differs from the last
+	 * one kept. The elements after the distinct values are left unspecified.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The number of distinct values, which are now at the start of the array in ascending order.
+	 */
+	public static int sortDistinctInPlace(int[] numbers) {
+		
+		int length = numbers.length;
+		
+		if (length < 2) return length;
+		
+		int smallest = getSmallest(numbers);
+		long range = (long) getLargest(numbers) - smallest + 1;
+		
+		if (range <= (long) length << 5) {
+			
+			long[] bitmap = distinctBitmap(numbers, smallest, range);
+			
+			int count = 0;
+			
+			for (int word = 0; word < bitmap.length; word++) {
+				
+				for (long bits = bitmap[word]; bits != 0; bits &= bits - 1) {
+					
+					numbers[count++] = smallest + (word << 6) + Long.numberOfTrailingZeros(bits);
+				}
+			}
+			
+			return count;
+		}
+		
+		sort(numbers);
+		
+		int count = 1;
+		
+		for (int i = 1; i < length; i++) {
+			
+			if (numbers[i] != numbers[count - 1]) numbers[count++] = numbers[i];
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Count the distinct values in an array, without modifying or sorting it.
+	 * <p>
+	 * If the values span a range no more than 32 times as wide as the array is long, they are marked in a bitmap
+	 * and its set bits are counted. Otherwise they are inserted into an open-addressing hash table at least twice
+	 * the size of the array, unless the array is too large for that and a sorted copy is counted instead.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The number of distinct values.
+	 */
+	public static int distinctCount(int[] numbers) {
+		
+		int length = numbers.length;
+		
+		if (length < 2) return length;
+		
+		int smallest = getSmallest(numbers);
+		long range = (long) getLargest(numbers) - smallest + 1;
+		
+		if (range <= (long) length << 5) {
+			
+			int count = 0;
+			
+			for (long bits : distinctBitmap(numbers, smallest, range)) {
+				
+				count += Long.bitCount(bits);
+			}
+			
+			return count;
+		}
+		
+		// Past this size the hash table could not be twice as large as the array.
+		if (length > 1 << 29) return sortDistinctInPlace(numbers.clone());
+		
+		// Zero marks an empty slot, so whether zero itself occurs is tracked separately.
+		int[] table = new int[Integer.highestOneBit(length - 1) << 2];
+		int mask = table.length - 1;
+		int shift = Integer.numberOfLeadingZeros(mask);
+		
+		boolean hasZero = false;
+		int count = 0;
+		
+		for (int number : numbers) {
+			
+			if (number == 0) {
+				
+				hasZero = true;
+				
+				continue;
+			}
+			
+			// Fibonacci hashing spreads clustered values over the table using its high bits.
+			int slot = (number * 0x9E3779B9) >>> shift;
+			
+			while (table[slot] != 0 && table[slot] != number) slot = (slot + 1) & mask;
+			
+			if (table[slot] == 0) {
+				
+				table[slot] = number;
+				
+				count++;
+			}
+		}
+		
+		return hasZero ? count + 1 : count;
+	}
+	
+	/**
+	 * Mark the values of an array in a bitmap.
+	 *
+	 * @param numbers  The array of numbers.
+	 * @param smallest The smallest number in the array, which is marked by the first bit.
+	 * @param range    The number of values from the smallest to the largest number, inclusive.
+	 * @return The bitmap, with a bit set for every value that occurs.
+	 */
+	private static long[] distinctBitmap(int[] numbers, int smallest, long range) {
+		
+		long[] bitmap = new long[(int) ((range + 63) >>> 6)];
+		
+		for (int number : numbers) {
+			
+			int offset = number - smallest;
+			
+			bitmap[offset >>> 6] |= 1L << offset;
+		}
+		
+		return bitmap;
+	}
+	
+	/**
+	 * Get the largest values in an array, without modifying it.
+	 * <p>
+	 * The values are collected in a min-heap bounded to {@code k} elements, so this takes {@code O(n log k)} time
+	 * and {@code O(k)} memory, which is much cheaper than sorting the whole array when {@code k} is small.
+	 *
+	 * @param numbers The array of numbers.
+	 * @param k       The number of values to get, capped at the length of the array.
+	 * @return The {@code k} largest values, largest first.
+	 * @throws IllegalArgumentException If k is negative throw this exception.
+	 */
+	public static int[] topK(int[] numbers, int k) {
+		
+		if (k < 0)
+			
+			throw new IllegalArgumentException("The k must not be negative.");
+		
+		k = Math.min(k, numbers.length);
+		
+		int[] heap = Arrays.copyOf(numbers, k);
+		
+		if (k == 0) return heap;
+		
+		for (int i = (k >>> 1) - 1; i >= 0; i--) {
+			
+			siftDownMin(heap, i, k);
+		}
+		
+		for (int i = k; i < numbers.length; i++) {
+			
+			// Only values larger than the smallest kept one can be among the largest.
+			if (numbers[i] > heap[0]) {
+				
+				heap[0] = numbers[i];
+				
+				siftDownMin(heap, 0, k);
+			}
+		}
+		
+		// Repeatedly moving the smallest value to the end leaves the heap sorted largest first.
+		for (int end = k - 1; end > 0; end--) {
+			
+			quickSwap(heap, 0, end);
+			
+			siftDownMin(heap, 0, end);
+		}
+		
+		return heap;
+	}
+	
+	/**
+	 * Restore the min-heap property below an element of a heap.
+	 *
+	 * @param heap   The array holding the heap.
+	 * @param index  The index of the element to sift down.
+	 * @param length The number of elements in the heap.
+	 */
+	private static void siftDownMin(int[] heap, int index, int length) {
+		
+		int value = heap[index];
+		
+		int child;
+		
+		while ((child = 2 * index + 1) < length) {
+			
+			if (child + 1 < length && heap[child + 1] < heap[child]) child++;
+			
+			if (heap[child] >= value) break;
+			
+			heap[index] = heap[child];
+			
+			index = child;
+		}
+		
+		heap[index] = value;
+	}
+	
+	/**
+	 * Partially sorts the array, so its first {@code k} elements are its {@code k} smallest in ascending order.
+	 * <p>
+	 * The {@code k} smallest values are moved to the front in linear time using introselect, and only those are
+	 * sorted, so this takes {@code O(n + k log k)} time. The order of the remaining elements is unspecified.
+	 *
+	 * @param numbers The array of numbers to partially sort.
+	 * @param k       The number of elements to sort, capped at the length of the array.
+	 * @throws IllegalArgumentException If k is negative throw this exception.
+	 */
+	public static void partialSort(int[] numbers, int k) {
+		
+		if (k < 0)
+			
+			throw new IllegalArgumentException("The k must not be negative.");
+		
+		if (k < numbers.length) {
+			
+			introSelect(numbers, 0, numbers.length, k);
+			
+		} else {
+			
+			k = numbers.length;
+		}
+		
+		introSort(numbers, 0, k, 2 * log2(k));
+	}
+	
+	/**
+	 * Rearrange a range of an array so the element at the given index is the one that would be there if the range
+	 * were sorted, with no greater elements before it and no smaller elements after it.
+	 * <p>
+	 * Partitions the same way as introsort but only continues into the side holding the index, and falls back to
+	 * heap sort past {@code 2 * log2(n)} levels to bound the worst case.
+	 *
+	 * @param numbers   The array of numbers.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 * @param index     The index to select the element for.
+	 */
+	private static void introSelect(int[] numbers, int fromIndex, int toIndex, int index) {
+		
+		int depthLimit = 2 * log2(toIndex - fromIndex);
+		
+		while (toIndex - fromIndex > INSERTION_SORT_THRESHOLD) {
+			
+			if (depthLimit-- == 0) {
+				
+				heapSort(numbers, fromIndex, toIndex);
+				
+				return;
+			}
+			
+			int splitIndex = introPartition(numbers, fromIndex, toIndex);
+			
+			if (index < splitIndex) toIndex = splitIndex;
+			else fromIndex = splitIndex;
+		}
+		
+		networkSort(numbers, fromIndex, toIndex);
+	}
+	
+	/**
+	 * Search a sorted array for a given value.
+	 *
+	 * @param numbers The sorted array.
+	 * @param target  The value to search for.
+	 * @return The index of the target value, or -1 if it is not found.
+	 */
+	public static int binarySearch(int[] numbers, int target) {
+		
+		return Arrays.binarySearch(numbers, target);
+	}
+	
+	/**
+	 * Get the largest number in an array.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The largest number in the array, or 0 if it is empty.
+	 * @see #summarize(int[])
+	 */
+	public static int getLargest(int[] numbers) {
+		
+		if (numbers.length == 0) return 0;
+		
+		if (VECTOR_API_AVAILABLE && numbers.length >= VECTOR_THRESHOLD) return VectorReductions.max(numbers);
+		
+		int largest = Integer.MIN_VALUE;
+		
+		for (int number : numbers) {
+			
+			largest = Math.max(largest, number);
+		}
+		
+		return largest;
+	}
+	
+	/**
+	 * Get the smallest number in an array.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The smallest number in the array, or 0 if it is empty.
+	 * @see #summarize(int[])
+	 */
+	public static int getSmallest(int[] numbers) {
+		
+		if (numbers.length == 0) return 0;
+		
+		if (VECTOR_API_AVAILABLE && numbers.length >= VECTOR_THRESHOLD) return VectorReductions.min(numbers);
+		
+		int smallest = Integer.MAX_VALUE;
+		
+		for (int number : numbers) {
+			
+			smallest = Math.min(smallest, number);
+		}
+		
+		return smallest;
+	}
+	
+	/**
+	 * Get the largest number in an array.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The largest number in the array, or 0 if it is empty.
 	 */
-	public static void quickSort(int[] numbers) {
+	public static long getLargest(long[] numbers) {
+		
+		if (numbers.length == 0) return 0;
+		
+		if (VECTOR_API_AVAILABLE && numbers.length >= VECTOR_THRESHOLD) return VectorReductions.max(numbers);
+		
+		long largest = Long.MIN_VALUE;
+		
+		for (long number : numbers) {
+			
+			largest = Math.max(largest, number);
+		}
 		
-		quickSort(numbers, 0, numbers.length - 1);
+		return largest;
 	}
 	
 	/**
-	 * Sorts the specified array of numbers using the quick sort algorithm.
+	 * Get the smallest number in an array.
 	 *
-	 * @param numbers   The array of numbers to sort.
-	 * @param lowIndex  The low index of the array.
-	 * @param highIndex The high index of the array.
+	 * @param numbers The array of numbers.
+	 * @return The smallest number in the array, or 0 if it is empty.
 	 */
-	private static void quickSort(int[] numbers, int lowIndex, int highIndex) {
+	public static long getSmallest(long[] numbers) {
 		
-		if (lowIndex >= highIndex) return;
+		if (numbers.length == 0) return 0;
 		
-		int pivotIndex = new Random().nextInt(highIndex - lowIndex) + lowIndex;
-		int pivot = numbers[pivotIndex];
+		if (VECTOR_API_AVAILABLE && numbers.length >= VECTOR_THRESHOLD) return VectorReductions.min(numbers);
 		
-		quickSwap(numbers, pivotIndex, highIndex);
+		long smallest = Long.MAX_VALUE;
 		
-		int leftPointer = quickPartition(numbers, lowIndex, highIndex, pivot);
+		for (long number : numbers) {
+			
+			smallest = Math.min(smallest, number);
+		}
 		
-		quickSort(numbers, lowIndex, leftPointer - 1);
-		quickSort(numbers, leftPointer + 1, highIndex);
+		return smallest;
 	}
 	
 	/**
-	 * Partitions the array around the pivot.
+	 * Get the largest number in an array, with the semantics of {@link Math#max(double, double)}.
 	 *
-	 * @param array     The array to partition.
-	 * @param lowIndex  The low index of the array.
-	 * @param highIndex The high index of the array.
-	 * @param pivot     The pivot to partition around.
-	 * @return The index of the pivot.
+	 * @param numbers The array of numbers.
+	 * @return The largest number in the array, NaN if any number is NaN, or 0 if it is empty.
 	 */
-	private static int quickPartition(int[] array, int lowIndex, int highIndex, int pivot) {
+	public static double getLargest(double[] numbers) {
 		
-		int leftPointer = lowIndex;
-		int rightPointer = highIndex - 1;
+		if (numbers.length == 0) return 0;
 		
-		while (leftPointer < rightPointer) {
-			
-			while (array[leftPointer] <= pivot && leftPointer < rightPointer) {
-				
-				leftPointer++;
-			}
-			
-			while (array[rightPointer] >= pivot && leftPointer < rightPointer) {
-				
-				rightPointer--;
-			}
+		if (VECTOR_API_AVAILABLE && numbers.length >= VECTOR_THRESHOLD) return VectorReductions.max(numbers);
+		
+		double largest = Double.NEGATIVE_INFINITY;
+		
+		for (double number : numbers) {
 			
-			quickSwap(array, leftPointer, rightPointer);
+			largest = Math.max(largest, number);
 		}
 		
-		if (array[leftPointer] > array[highIndex]) {
-			
-			quickSwap(array, leftPointer, highIndex);
-			
-		} else {
+		return largest;
+	}
+	
+	/**
+	 * Get the smallest number in an array, with the semantics of {@link Math#min(double, double)}.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The smallest number in the array, NaN if any number is NaN, or 0 if it is empty.
+	 */
+	public static double getSmallest(double[] numbers) {
+		
+		if (numbers.length == 0) return 0;
+		
+		if (VECTOR_API_AVAILABLE && numbers.length >= VECTOR_THRESHOLD) return VectorReductions.min(numbers);
+		
+		double smallest = Double.POSITIVE_INFINITY;
+		
+		for (double number : numbers) {
 			
-			leftPointer = highIndex;
+			smallest = Math.min(smallest, number);
 		}
 		
-		return leftPointer;
+		return smallest;
 	}
 	
 	/**
-	 * Swaps two elements in an array.
+	 * Get the sum of an array of numbers.
+	 * <p>
+	 * The sum is accumulated in a {@code long}, so it cannot overflow.
 	 *
 	 * @param numbers The array of numbers.
-	 * @param index1  The index of the first element.
-	 * @param index2  The index of the second element.
+	 * @return The sum of the numbers.
 	 */
-	private static void quickSwap(int[] numbers, int index1, int index2) {
+	public static long getSum(int[] numbers) {
 		
-		int temp = numbers[index1];
+		if (VECTOR_API_AVAILABLE && numbers.length >= VECTOR_THRESHOLD) return VectorReductions.sum(numbers);
 		
-		numbers[index1] = numbers[index2];
-		numbers[index2] = temp;
+		long sum = 0;
+		
+		for (int number : numbers) {
+			
+			sum += number;
+		}
+		
+		return sum;
 	}
 	
 	/**
-	 * Sorts the specified array of numbers using the merge sort algorithm.
+	 * Get the sum of an array of numbers, wrapping around on overflow.
 	 *
-	 * @param numbers The array of numbers to sort.
+	 * @param numbers The array of numbers.
+	 * @return The sum of the numbers.
 	 */
-	public static void mergeSort(int[] numbers) {
+	public static long getSum(long[] numbers) {
 		
-		int length = numbers.length;
+		if (VECTOR_API_AVAILABLE && numbers.length >= VECTOR_THRESHOLD) return VectorReductions.sum(numbers);
 		
-		if (length < 2) return;
+		long sum = 0;
 		
-		int middleIndex = length / 2;
+		for (long number : numbers) {
+			
+			sum += number;
+		}
 		
-		int[] leftHalf = new int[middleIndex];
-		int[] rightHalf = new int[length - middleIndex];
+		return sum;
+	}
+	
+	/**
+	 * Get the sum of an array of numbers.
+	 * <p>
+	 * When the Vector API is available the numbers are added in a different order than a plain loop would,
+	 * so the result may differ from it in the last bits.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The sum of the numbers.
+	 */
+	public static double getSum(double[] numbers) {
 		
-		System.arraycopy(numbers, 0, leftHalf, 0, middleIndex);
+		if (VECTOR_API_AVAILABLE && numbers.length >= VECTOR_THRESHOLD) return VectorReductions.sum(numbers);
 		
-		if (length - middleIndex >= 0) System.arraycopy(numbers, middleIndex, rightHalf, 0, length - middleIndex);
+		double sum = 0;
 		
-		mergeSort(leftHalf);
-		mergeSort(rightHalf);
+		for (double number : numbers) {
+			
+			sum += number;
+		}
 		
-		// Merge halves
-		merge(numbers, leftHalf, rightHalf);
+		return sum;
 	}
 	
 	/**
-	 * Merge two halves of an array.
+	 * Count how many numbers of an array fall into each of a number of equally wide buckets
+	 * spanning from the smallest to the largest number.
+	 * <p>
+	 * The range is found with {@link #getSmallest(int[])} and {@link #getLargest(int[])}. The counting itself
+	 * spreads consecutive numbers over four separate count tables which are added together at the end,
+	 * so runs of equal numbers do not wait on each other's increments.
 	 *
-	 * @param numbers   The array to merge.
-	 * @param leftHalf  The left half of the array.
-	 * @param rightHalf The right half of the array.
+	 * @param numbers     The array of numbers.
+	 * @param bucketCount The number of buckets.
+	 * @return The number of numbers in each bucket, with the smallest numbers in the first bucket.
+	 * @throws IllegalArgumentException If the bucket count is less than 1 throw this exception.
 	 */
-	private static void merge(int[] numbers, int[] leftHalf, int[] rightHalf) {
+	public static int[] getHistogram(int[] numbers, int bucketCount) {
 		
-		int leftLength = leftHalf.length;
-		int rightLength = rightHalf.length;
+		if (bucketCount < 1) throw new IllegalArgumentException("The bucket count must be at least 1.");
 		
-		int i = 0, j = 0, k = 0;
+		int[] histogram = new int[bucketCount];
 		
-		while (i < leftLength && j < rightLength) {
-			
-			if (leftHalf[i] <= rightHalf[j]) {
-				
-				numbers[k] = leftHalf[i];
-				
-				i++;
-				
-			} else {
-				
-				numbers[k] = rightHalf[j];
-				
-				j++;
-			}
+		if (numbers.length == 0) return histogram;
+		
+		int smallest = getSmallest(numbers);
+		long range = (long) getLargest(numbers) - smallest + 1;
+		
+		int[][] counts = new int[4][bucketCount];
+		
+		int upperBound = numbers.length & ~3;
+		
+		for (int i = 0; i < upperBound; i += 4) {
 			
-			k++;
+			counts[0][(int) ((numbers[i] - (long) smallest) * bucketCount / range)]++;
+			counts[1][(int) ((numbers[i + 1] - (long) smallest) * bucketCount / range)]++;
+			counts[2][(int) ((numbers[i + 2] - (long) smallest) * bucketCount / range)]++;
+			counts[3][(int) ((numbers[i + 3] - (long) smallest) * bucketCount / range)]++;
 		}
 		
-		while (i < leftLength) {
-			
-			numbers[k] = leftHalf[i];
+		for (int i = upperBound; i < numbers.length; i++) {
 			
-			i++;
-			k++;
+			counts[0][(int) ((numbers[i] - (long) smallest) * bucketCount / range)]++;
 		}
 		
-		while (j < rightLength) {
+		for (int bucket = 0; bucket < bucketCount; bucket++) {
 			
-			numbers[k] = rightHalf[j];
-			
-			j++;
-			k++;
+			histogram[bucket] = counts[0][bucket] + counts[1][bucket] + counts[2][bucket] + counts[3][bucket];
 		}
+		
+		return histogram;
 	}
 	
 	/**
-	 * Sorts the given array using the insertion sort algorithm.
+	 * Get the median of an array of numbers.
+	 * <p>
+	 * For an even number of elements this is the upper of the two middle values.
+	 * Runs in linear time on a copy of the array, which is left unmodified.
 	 *
-	 * @param numbers The array to sort.
+	 * @param numbers The array of numbers.
+	 * @return The median of the array, or 0 if it is empty.
 	 */
-	public static void insertionSort(int[] numbers) {
+	public static int getMedian(int[] numbers) {
 		
-		for (int i = 1; i < numbers.length; i++) {
-			
-			int currentValue = numbers[i];
-			
-			int j = i - 1;
-			
-			while (j >= 0 && numbers[j] > currentValue) {
-				
-				numbers[j + 1] = numbers[j];
-				
-				j--;
-			}
-			
-			numbers[j + 1] = currentValue;
-		}
+		if (numbers.length == 0) return 0;
+		
+		return select(numbers.clone(), numbers.length / 2);
 	}
 	
 	/**
-	 * Sorts the given array using the bubble sort algorithm.
+	 * Get a percentile of an array of numbers using the nearest-rank method.
+	 * <p>
+	 * Runs in linear time on a copy of the array, which is left unmodified.
 	 *
-	 * @param numbers The array to sort.
+	 * @param numbers    The array of numbers.
+	 * @param percentile The percentile to get, between 0 and 100.
+	 * @return The smallest value that at least the given percentage of the values are less than or equal to,
+	 * or 0 if the array is empty.
+	 * @throws IllegalArgumentException If the percentile is not between 0 and 100 throw this exception.
+	 * @see #getPercentiles(int[], double...)
 	 */
-	public static void bubbleSort(int[] numbers) {
+	public static int getPercentile(int[] numbers, double percentile) {
 		
-		boolean hasSwapped;
+		int index = percentileIndex(numbers.length, percentile);
 		
-		do {
-			
-			hasSwapped = false;
-			
-			for (int i = 0; i < numbers.length - 1; i++) {
-				
-				if (numbers[i] > numbers[i + 1]) {
-					
-					hasSwapped = true;
-					
-					int temp = numbers[i];
-					
-					numbers[i] = numbers[i + 1];
-					numbers[i + 1] = temp;
-				}
-			}
-			
-		} while (hasSwapped);
+		if (numbers.length == 0) return 0;
+		
+		return select(numbers.clone(), index);
 	}
 	
 	/**
-	 * Sorts the given array using the bogo sort algorithm.
+	 * Get several percentiles of an array of numbers at once using the nearest-rank method.
+	 * <p>
+	 * All the percentiles are selected together on a single copy of the array: every partitioning step is shared
+	 * by the percentiles on both sides of it, and a side is only processed further if a percentile falls in it.
+	 * Asking for p50, p90, p99 and p99.9 together costs little more than asking for one of them.
 	 *
-	 * @param numbers The array to sort.
+	 * @param numbers     The array of numbers.
+	 * @param percentiles The percentiles to get, each between 0 and 100, in any order.
+	 * @return The value of each percentile in the order they were given, all 0 if the array is empty.
+	 * @throws IllegalArgumentException If a percentile is not between 0 and 100 throw this exception.
+	 * @see #getPercentile(int[], double)
 	 */
-	public static void bogoSort(List<Integer> numbers) {
+	public static int[] getPercentiles(int[] numbers, double... percentiles) {
 		
-		while (!isBogoSorted(numbers)) {
+		int length = numbers.length;
+		
+		int[] indices = new int[percentiles.length];
+		
+		for (int i = 0; i < percentiles.length; i++) {
 			
-			Collections.shuffle(numbers);
+			indices[i] = percentileIndex(length, percentiles[i]);
+		}
+		
+		int[] values = new int[percentiles.length];
+		
+		if (length == 0) return values;
+		
+		int[] ranks = indices.clone();
+		
+		radixSort(ranks);
+		
+		int[] copy = numbers.clone();
+		
+		multiSelect(copy, 0, length, ranks, 0, ranks.length, 2 * log2(length));
+		
+		for (int i = 0; i < indices.length; i++) {
+			
+			values[i] = copy[indices[i]];
 		}
+		
+		return values;
 	}
 	
 	/**
-	 * Checks if the list is sorted.
+	 * Get the index of the element holding a percentile in a sorted array, using the nearest-rank method.
 	 *
-	 * @param numbers The list to check.
-	 * @return True if the list is sorted, false otherwise.
+	 * @param length     The length of the array.
+	 * @param percentile The percentile, between 0 and 100.
+	 * @return The index of the element, or 0 if the array is empty.
+	 * @throws IllegalArgumentException If the percentile is not between 0 and 100 throw this exception.
 	 */
-	private static boolean isBogoSorted(List<Integer> numbers) {
+	private static int percentileIndex(int length, double percentile) {
 		
-		if (numbers == null) return true;
+		if (!(percentile >= 0 && percentile <= 100))
+			
+			throw new IllegalArgumentException("The percentile must be between 0 and 100.");
 		
-		int length = numbers.size();
+		int rank = (int) Math.ceil(percentile / 100 * length);
 		
-		if (length <= 1) return true;
+		return Math.max(0, Math.min(rank, length) - 1);
+	}
+	
+	/**
+	 * Find the k-th smallest number in an array in linear time.
+	 * <p>
+	 * The array is rearranged in place using introselect, after which the k-th smallest number is at index
+	 * {@code k}, with no greater numbers before it and no smaller numbers after it.
+	 *
+	 * @param numbers The array of numbers, it is rearranged.
+	 * @param k       The zero based rank of the number to find.
+	 * @return The k-th smallest number.
+	 * @throws IllegalArgumentException If k is not a valid index in the array throw this exception.
+	 */
+	public static int select(int[] numbers, int k) {
 		
-		for (int i = 0; i < length - 1; i++) {
+		if (k < 0 || k >= numbers.length)
 			
-			if (numbers.get(i) > numbers.get(i + 1)) return false;
-		}
+			throw new IllegalArgumentException("The k must be a valid index in the array.");
 		
-		return true;
+		introSelect(numbers, 0, numbers.length, k);
+		
+		return numbers[k];
 	}
 	
 	/**
-	 * Search a sorted array for a given value.
+	 * Rearrange a range of an array so every given index holds the element it would hold if the range were sorted.
 	 *
-	 * @param numbers The sorted array.
-	 * @param target  The value to search for.
-	 * @return The index of the target value, or -1 if it is not found.
+	 * @param numbers    The array of numbers.
+	 * @param fromIndex  The index of the first element, inclusive.
+	 * @param toIndex    The index of the last element, exclusive.
+	 * @param ranks      The indices to select the elements for, sorted ascending.
+	 * @param rankFrom   The index of the first rank within the range, inclusive.
+	 * @param rankTo     The index of the last rank within the range, exclusive.
+	 * @param depthLimit The number of partitioning levels left before falling back to heap sort.
 	 */
-	public static int binarySearch(int[] numbers, int target) {
+	private static void multiSelect(int[] numbers, int fromIndex, int toIndex, int[] ranks, int rankFrom, int rankTo, int depthLimit) {
 		
-		return Arrays.binarySearch(numbers, target);
+		while (rankFrom < rankTo) {
+			
+			if (toIndex - fromIndex <= INSERTION_SORT_THRESHOLD) {
+				
+				networkSort(numbers, fromIndex, toIndex);
+				
+				return;
+			}
+			
+			if (depthLimit-- == 0) {
+				
+				heapSort(numbers, fromIndex, toIndex);
+				
+				return;
+			}
+			
+			int splitIndex = introPartition(numbers, fromIndex, toIndex);
+			
+			// Ranks before the split are selected on the left, the rest on the right.
+			int rankSplit = rankFrom;
+			
+			while (rankSplit < rankTo && ranks[rankSplit] < splitIndex) rankSplit++;
+			
+			multiSelect(numbers, fromIndex, splitIndex, ranks, rankFrom, rankSplit, depthLimit);
+			
+			fromIndex = splitIndex;
+			rankFrom = rankSplit;
+		}
 	}
 	
 	/**
-	 * Get the largest number in an array.
+	 * Get the average of the numbers in the array
 	 *
 	 * @param numbers The array of numbers.
-	 * @return The largest number in the array.
+	 * @return The average of the numbers in the array, or 0 if it is empty.
+	 * @see #summarize(int[])
 	 */
-	public static int getLargest(int[] numbers) {
+	public double getAverage(int[] numbers) {
+		
+		if (numbers.length == 0) return 0;
 		
-		return Arrays.stream(numbers).max().isPresent() ? Arrays.stream(numbers).max().getAsInt() : 0;
+		return (double) getSum(numbers) / numbers.length;
 	}
 	
 	/**
-	 * Get the smallest number in an array.
+	 * Get the count, smallest, largest, sum, mean and variance of an array of numbers in a single pass.
+	 * <p>
+	 * The array is processed in blocks small enough to stay in the CPU cache. The smallest, largest and sum
+	 * of a block are found with a branch-free loop the JIT can vectorize, then the squared deviations from the
+	 * block's mean are summed while the block is still cached, and the blocks are combined with Chan's formula.
+	 * The sum is accumulated in a {@code long}, so it cannot overflow.
 	 *
 	 * @param numbers The array of numbers.
-	 * @return The smallest number in the array.
+	 * @return The statistics of the array.
+	 * @see #parallelSummarize(int[])
 	 */
-	public static int getSmallest(int[] numbers) {
+	public static Statistics summarize(int[] numbers) {
 		
-		return Arrays.stream(numbers).min().isPresent() ? Arrays.stream(numbers).min().getAsInt() : 0;
+		return summarize(numbers, 0, numbers.length);
 	}
 	
 	/**
-	 * Get the median of an array of numbers.
+	 * Get the count, smallest, largest, sum, mean and variance of an array of numbers in parallel on the common fork-join pool.
 	 *
 	 * @param numbers The array of numbers.
-	 * @return The median of the array.
+	 * @return The statistics of the array.
+	 * @see #parallelSummarize(int[], int)
 	 */
-	public static int getMedian(int[] numbers) {
+	public static Statistics parallelSummarize(int[] numbers) {
 		
-		return Arrays.stream(numbers).sorted().skip(numbers.length / 2).findFirst().isPresent() ? Arrays.stream(numbers).sorted().skip(numbers.length / 2).findFirst().getAsInt() : 0;
+		return parallelSummarize(numbers, ForkJoinPool.getCommonPoolParallelism());
 	}
 	
 	/**
-	 * Get the average of the numbers in the array
+	 * Get the count, smallest, largest, sum, mean and variance of an array of numbers in parallel.
+	 * <p>
+	 * The array is split recursively on a fork-join pool, each range is summarized as by {@link #summarize(int[])},
+	 * and the results are combined.
 	 *
-	 * @param numbers The array of numbers.
-	 * @return The average of the numbers in the array.
+	 * @param numbers     The array of numbers.
+	 * @param parallelism The number of threads to use.
+	 * @return The statistics of the array.
+	 * @throws IllegalArgumentException If the parallelism is less than 1 throw this exception.
 	 */
-	public double getAverage(int[] numbers) {
+	public static Statistics parallelSummarize(int[] numbers, int parallelism) {
+		
+		if (parallelism < 1)
+			
+			throw new IllegalArgumentException("The parallelism must be at least 1.");
+		
+		if (parallelism == 1 || numbers.length <= PARALLEL_CUTOFF) return summarize(numbers);
+		
+		return invoke(new SummarizeTask(numbers, 0, numbers.length), parallelism);
+	}
+	
+	/**
+	 * Get the statistics of a range of an array of numbers.
+	 *
+	 * @param numbers   The array of numbers.
+	 * @param fromIndex The index of the first element, inclusive.
+	 * @param toIndex   The index of the last element, exclusive.
+	 * @return The statistics of the range.
+	 */
+	private static Statistics summarize(int[] numbers, int fromIndex, int toIndex) {
+		
+		Statistics statistics = Statistics.EMPTY;
+		
+		// The bounds are stepped as longs, so stepping past the end of a range ending near 2^31 cannot overflow.
+		for (long blockStart = fromIndex; blockStart < toIndex; blockStart += SUMMARY_BLOCK_SIZE) {
+			
+			int blockFrom = (int) blockStart;
+			int blockTo = (int) Math.min(blockStart + SUMMARY_BLOCK_SIZE, toIndex);
+			
+			int smallest = Integer.MAX_VALUE;
+			int largest = Integer.MIN_VALUE;
+			long sum = 0;
+			
+			for (int i = blockFrom; i < blockTo; i++) {
+				
+				int number = numbers[i];
+				
+				smallest = Math.min(smallest, number);
+				largest = Math.max(largest, number);
+				sum += number;
+			}
+			
+			int count = blockTo - blockFrom;
+			double mean = (double) sum / count;
+			double squares = 0;
+			
+			for (int i = blockFrom; i < blockTo; i++) {
+				
+				double deviation = numbers[i] - mean;
+				
+				squares += deviation * deviation;
+			}
+			
+			statistics = statistics.combine(new Statistics(count, smallest, largest, sum, mean, squares / count));
+		}
+		
+		return statistics;
+	}
+	
+	/**
+	 * Summary statistics of an array of numbers.
+	 *
+	 * @param count    The number of values.
+	 * @param min      The smallest value, or 0 if there are no values.
+	 * @param max      The largest value, or 0 if there are no values.
+	 * @param sum      The sum of the values.
+	 * @param mean     The arithmetic mean of the values, or 0 if there are no values.
+	 * @param variance The population variance of the values, or 0 if there are no values.
+	 * @see #summarize(int[])
+	 */
+	public record Statistics(long count, int min, int max, long sum, double mean, double variance) {
+		
+		/**
+		 * The statistics of no values.
+		 */
+		private static final Statistics EMPTY = new Statistics(0, 0, 0, 0, 0, 0);
+		
+		/**
+		 * Get the population standard deviation of the values.
+		 *
+		 * @return The square root of the variance.
+		 */
+		public double standardDeviation() {
+			
+			return Math.sqrt(variance);
+		}
+		
+		/**
+		 * Combine these statistics with the statistics of other values, using Chan's formula for the variance.
+		 *
+		 * @param other The statistics of the other values.
+		 * @return The statistics of both sets of values together.
+		 */
+		private Statistics combine(Statistics other) {
+			
+			if (other.count == 0) return this;
+			if (count == 0) return other;
+			
+			long combinedCount = count + other.count;
+			long combinedSum = sum + other.sum;
+			double delta = other.mean - mean;
+			double squares = variance * count + other.variance * other.count
+					+ delta * delta * ((double) count * other.count / combinedCount);
+			
+			return new Statistics(combinedCount, Math.min(min, other.min), Math.max(max, other.max), combinedSum,
+					(double) combinedSum / combinedCount, squares / combinedCount);
+		}
+	}
+	
+	/**
+	 * A fork-join task that summarizes a range of an array.
+	 */
+	private static final class SummarizeTask extends RecursiveTask<Statistics> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] numbers;
+		private final int fromIndex;
+		private final int toIndex;
+		
+		private SummarizeTask(int[] numbers, int fromIndex, int toIndex) {
+			
+			this.numbers = numbers;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+		}
 		
-		return Arrays.stream(numbers).average().isPresent() ? Arrays.stream(numbers).average().getAsDouble() : 0;
+		@Override
+		protected Statistics compute() {
+			
+			if (toIndex - fromIndex <= PARALLEL_CUTOFF) return summarize(numbers, fromIndex, toIndex);
+			
+			int middleIndex = (fromIndex + toIndex) >>> 1;
+			
+			SummarizeTask left = new SummarizeTask(numbers, fromIndex, middleIndex);
+			
+			left.fork();
+			
+			Statistics right = new SummarizeTask(numbers, middleIndex, toIndex).compute();
+			
+			return left.join().combine(right);
+		}
 	}
 }
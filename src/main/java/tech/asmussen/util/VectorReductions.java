@@ -0,0 +1,275 @@
+package tech.asmussen.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementations of the reductions in {@link Sorters}, using the incubating Vector API.
+ * <p>
+ * This class must only be loaded when the {@code jdk.incubator.vector} module is present,
+ * which {@link Sorters} checks before calling into it.
+ */
+final class VectorReductions {
+	
+	private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+	
+	/**
+	 * The long species with half as many lanes as the int species, used to widen ints before summing them.
+	 */
+	private static final VectorSpecies<Long> WIDENED_SPECIES = VectorSpecies.of(long.class, INT_SPECIES.vectorShape());
+	
+	/**
+	 * Get the smallest number in a non-empty array.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The smallest number.
+	 */
+	static int min(int[] numbers) {
+		
+		int upperBound = INT_SPECIES.loopBound(numbers.length);
+		
+		IntVector smallest = IntVector.broadcast(INT_SPECIES, Integer.MAX_VALUE);
+		
+		for (int i = 0; i < upperBound; i += INT_SPECIES.length()) {
+			
+			smallest = smallest.min(IntVector.fromArray(INT_SPECIES, numbers, i));
+		}
+		
+		int result = smallest.reduceLanes(VectorOperators.MIN);
+		
+		for (int i = upperBound; i < numbers.length; i++) {
+			
+			result = Math.min(result, numbers[i]);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Get the largest number in a non-empty array.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The largest number.
+	 */
+	static int max(int[] numbers) {
+		
+		int upperBound = INT_SPECIES.loopBound(numbers.length);
+		
+		IntVector largest = IntVector.broadcast(INT_SPECIES, Integer.MIN_VALUE);
+		
+		for (int i = 0; i < upperBound; i += INT_SPECIES.length()) {
+			
+			largest = largest.max(IntVector.fromArray(INT_SPECIES, numbers, i));
+		}
+		
+		int result = largest.reduceLanes(VectorOperators.MAX);
+		
+		for (int i = upperBound; i < numbers.length; i++) {
+			
+			result = Math.max(result, numbers[i]);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Get the sum of an array of numbers, widening every lane to a long so the sum cannot overflow.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The sum of the numbers.
+	 */
+	static long sum(int[] numbers) {
+		
+		int upperBound = INT_SPECIES.loopBound(numbers.length);
+		
+		LongVector low = LongVector.zero(WIDENED_SPECIES);
+		LongVector high = LongVector.zero(WIDENED_SPECIES);
+		
+		for (int i = 0; i < upperBound; i += INT_SPECIES.length()) {
+			
+			IntVector vector = IntVector.fromArray(INT_SPECIES, numbers, i);
+			
+			low = low.add(vector.convertShape(VectorOperators.I2L, WIDENED_SPECIES, 0));
+			high = high.add(vector.convertShape(VectorOperators.I2L, WIDENED_SPECIES, 1));
+		}
+		
+		long result = low.add(high).reduceLanes(VectorOperators.ADD);
+		
+		for (int i = upperBound; i < numbers.length; i++) {
+			
+			result += numbers[i];
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Get the smallest number in a non-empty array.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The smallest number.
+	 */
+	static long min(long[] numbers) {
+		
+		int upperBound = LONG_SPECIES.loopBound(numbers.length);
+		
+		LongVector smallest = LongVector.broadcast(LONG_SPECIES, Long.MAX_VALUE);
+		
+		for (int i = 0; i < upperBound; i += LONG_SPECIES.length()) {
+			
+			smallest = smallest.min(LongVector.fromArray(LONG_SPECIES, numbers, i));
+		}
+		
+		long result = smallest.reduceLanes(VectorOperators.MIN);
+		
+		for (int i = upperBound; i < numbers.length; i++) {
+			
+			result = Math.min(result, numbers[i]);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Get the largest number in a non-empty array.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The largest number.
+	 */
+	static long max(long[] numbers) {
+		
+		int upperBound = LONG_SPECIES.loopBound(numbers.length);
+		
+		LongVector largest = LongVector.broadcast(LONG_SPECIES, Long.MIN_VALUE);
+		
+		for (int i = 0; i < upperBound; i += LONG_SPECIES.length()) {
+			
+			largest = largest.max(LongVector.fromArray(LONG_SPECIES, numbers, i));
+		}
+		
+		long result = largest.reduceLanes(VectorOperators.MAX);
+		
+		for (int i = upperBound; i < numbers.length; i++) {
+			
+			result = Math.max(result, numbers[i]);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Get the sum of an array of numbers, wrapping around on overflow like {@code +}.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The sum of the numbers.
+	 */
+	static long sum(long[] numbers) {
+		
+		int upperBound = LONG_SPECIES.loopBound(numbers.length);
+		
+		LongVector sum = LongVector.zero(LONG_SPECIES);
+		
+		for (int i = 0; i < upperBound; i += LONG_SPECIES.length()) {
+			
+			sum = sum.add(LongVector.fromArray(LONG_SPECIES, numbers, i));
+		}
+		
+		long result = sum.reduceLanes(VectorOperators.ADD);
+		
+		for (int i = upperBound; i < numbers.length; i++) {
+			
+			result += numbers[i];
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Get the smallest number in a non-empty array, with the semantics of {@link Math#min(double, double)}.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The smallest number, or {@code NaN} if any number is {@code NaN}.
+	 */
+	static double min(double[] numbers) {
+		
+		int upperBound = DOUBLE_SPECIES.loopBound(numbers.length);
+		
+		DoubleVector smallest = DoubleVector.broadcast(DOUBLE_SPECIES, Double.POSITIVE_INFINITY);
+		
+		for (int i = 0; i < upperBound; i += DOUBLE_SPECIES.length()) {
+			
+			smallest = smallest.min(DoubleVector.fromArray(DOUBLE_SPECIES, numbers, i));
+		}
+		
+		double result = smallest.reduceLanes(VectorOperators.MIN);
+		
+		for (int i = upperBound; i < numbers.length; i++) {
+			
+			result = Math.min(result, numbers[i]);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Get the largest number in a non-empty array, with the semantics of {@link Math#max(double, double)}.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The largest number, or {@code NaN} if any number is {@code NaN}.
+	 */
+	static double max(double[] numbers) {
+		
+		int upperBound = DOUBLE_SPECIES.loopBound(numbers.length);
+		
+		DoubleVector largest = DoubleVector.broadcast(DOUBLE_SPECIES, Double.NEGATIVE_INFINITY);
+		
+		for (int i = 0; i < upperBound; i += DOUBLE_SPECIES.length()) {
+			
+			largest = largest.max(DoubleVector.fromArray(DOUBLE_SPECIES, numbers, i));
+		}
+		
+		double result = largest.reduceLanes(VectorOperators.MAX);
+		
+		for (int i = upperBound; i < numbers.length; i++) {
+			
+			result = Math.max(result, numbers[i]);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Get the sum of an array of numbers.
+	 * <p>
+	 * Every lane keeps its own running sum, so the additions happen in a different order than a scalar loop
+	 * and the result may differ from it in the last bits.
+	 *
+	 * @param numbers The array of numbers.
+	 * @return The sum of the numbers.
+	 */
+	static double sum(double[] numbers) {
+		
+		int upperBound = DOUBLE_SPECIES.loopBound(numbers.length);
+		
+		DoubleVector sum = DoubleVector.zero(DOUBLE_SPECIES);
+		
+		for (int i = 0; i < upperBound; i += DOUBLE_SPECIES.length()) {
+			
+			sum = sum.add(DoubleVector.fromArray(DOUBLE_SPECIES, numbers, i));
+		}
+		
+		double result = sum.reduceLanes(VectorOperators.ADD);
+		
+		for (int i = upperBound; i < numbers.length; i++) {
+			
+			result += numbers[i];
+		}
+		
+		return result;
+	}
+}
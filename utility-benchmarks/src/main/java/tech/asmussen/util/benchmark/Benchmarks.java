@@ -0,0 +1,28 @@
+package tech.asmussen.util.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The entry point of the benchmark jar.
+ * <p>
+ * Takes the usual JMH command line options, for example {@code SortBenchmark -p size=100000},
+ * and always adds the GC profiler so every result comes with its allocation rate and GC counts.
+ */
+public class Benchmarks {
+	
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+		
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build();
+		
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,78 @@
+package tech.asmussen.util.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * The shapes of input data the benchmarks are run against.
+ */
+public enum Distribution {
+	
+	/**
+	 * Uniformly random numbers over the whole {@code int} range.
+	 */
+	RANDOM,
+	
+	/**
+	 * Numbers already in ascending order.
+	 */
+	SORTED,
+	
+	/**
+	 * Numbers in descending order.
+	 */
+	REVERSED,
+	
+	/**
+	 * Random numbers drawn from only a few distinct values.
+	 */
+	FEW_UNIQUE,
+	
+	/**
+	 * Short ascending runs that keep restarting from zero.
+	 */
+	SAWTOOTH,
+	
+	/**
+	 * Numbers ascending up to the middle and descending after it.
+	 */
+	ORGAN_PIPE;
+	
+	/**
+	 * The number of distinct values in {@link #FEW_UNIQUE} data.
+	 */
+	private static final int FEW_UNIQUE_VALUES = 16;
+	
+	/**
+	 * The length of each run in {@link #SAWTOOTH} data.
+	 */
+	private static final int SAWTOOTH_PERIOD = 1_000;
+	
+	/**
+	 * Generate an array of numbers with this distribution.
+	 *
+	 * @param size The number of elements.
+	 * @param seed The seed of the random numbers, so every fork benchmarks the same data.
+	 * @return The generated numbers.
+	 */
+	public int[] generate(int size, long seed) {
+		
+		SplittableRandom random = new SplittableRandom(seed);
+		
+		int[] numbers = new int[size];
+		
+		for (int i = 0; i < size; i++) {
+			
+			numbers[i] = switch (this) {
+				
+				case RANDOM -> random.nextInt();
+				case SORTED -> i;
+				case REVERSED -> size - i;
+				case FEW_UNIQUE -> random.nextInt(FEW_UNIQUE_VALUES);
+				case SAWTOOTH -> i % SAWTOOTH_PERIOD;
+				case ORGAN_PIPE -> Math.min(i, size - i);
+			};
+		}
+		
+		return numbers;
+	}
+}
@@ -0,0 +1,99 @@
+package tech.asmussen.util.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.asmussen.util.Sorters;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@code O(n^2)} sorts of {@link Sorters} on the small sizes they are meant for,
+ * with {@link Sorters#sort(int[])} as the reference.
+ * <p>
+ * Every benchmark first copies the unsorted data into a preallocated array and then sorts it,
+ * so subtract the result of {@link #copy()} to get the time of the sort alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuadraticSortBenchmark {
+	
+	private static final long SEED = 42;
+	
+	@Param({"16", "100", "1000", "10000"})
+	int size;
+	
+	@Param
+	Distribution distribution;
+	
+	private int[] source;
+	private int[] numbers;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		
+		source = distribution.generate(size, SEED);
+		numbers = new int[size];
+	}
+	
+	/**
+	 * Restore the unsorted data.
+	 *
+	 * @return The array to sort.
+	 */
+	private int[] unsorted() {
+		
+		System.arraycopy(source, 0, numbers, 0, size);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] copy() {
+		
+		return unsorted();
+	}
+	
+	@Benchmark
+	public int[] sort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.sort(numbers);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] insertionSort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.insertionSort(numbers);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] bubbleSort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.bubbleSort(numbers);
+		
+		return numbers;
+	}
+}
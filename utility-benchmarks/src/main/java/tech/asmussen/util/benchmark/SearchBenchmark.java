@@ -0,0 +1,80 @@
+package tech.asmussen.util.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.asmussen.util.Sorters;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link Sorters#binarySearch(int[], int)} on sorted data, reporting the time per search.
+ * <p>
+ * Half of the targets are taken from the data and half are random, so both hits and misses are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+	
+	private static final long SEED = 42;
+	
+	/**
+	 * The number of searches per invocation, cycling through different targets defeats the branch predictor.
+	 */
+	private static final int TARGET_COUNT = 1_024;
+	
+	@Param({"1000", "100000", "10000000"})
+	int size;
+	
+	@Param
+	Distribution distribution;
+	
+	private int[] numbers;
+	private int[] targets;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		
+		numbers = distribution.generate(size, SEED);
+		
+		Sorters.sort(numbers);
+		
+		SplittableRandom random = new SplittableRandom(SEED);
+		
+		targets = new int[TARGET_COUNT];
+		
+		for (int i = 0; i < TARGET_COUNT; i++) {
+			
+			targets[i] = (i & 1) == 0 ? numbers[random.nextInt(size)] : random.nextInt();
+		}
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(TARGET_COUNT)
+	public int binarySearch() {
+		
+		int found = 0;
+		
+		for (int target : targets) {
+			
+			found += Sorters.binarySearch(numbers, target);
+		}
+		
+		return found;
+	}
+}
@@ -0,0 +1,234 @@
+package tech.asmussen.util.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.asmussen.util.AutoSorter;
+import tech.asmussen.util.Sorters;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@code O(n log n)} sorts of {@link Sorters} against {@link Arrays#sort(int[])}.
+ * <p>
+ * Every benchmark first copies the unsorted data into a preallocated array and then sorts it,
+ * so subtract the result of {@link #copy()} to get the time of the sort alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortBenchmark {
+	
+	private static final long SEED = 42;
+	
+	@Param({"1000", "100000", "1000000"})
+	int size;
+	
+	@Param
+	Distribution distribution;
+	
+	private final AutoSorter autoSorter = new AutoSorter();
+	
+	private int[] source;
+	private int[] numbers;
+	private int[] workspace;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		
+		source = distribution.generate(size, SEED);
+		numbers = new int[size];
+		workspace = new int[size];
+	}
+	
+	/**
+	 * Restore the unsorted data.
+	 *
+	 * @return The array to sort.
+	 */
+	private int[] unsorted() {
+		
+		System.arraycopy(source, 0, numbers, 0, size);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] copy() {
+		
+		return unsorted();
+	}
+	
+	@Benchmark
+	public int[] arraysSort() {
+		
+		int[] numbers = unsorted();
+		
+		Arrays.sort(numbers);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] arraysParallelSort() {
+		
+		int[] numbers = unsorted();
+		
+		Arrays.parallelSort(numbers);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] sort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.sort(numbers);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] autoSort() {
+		
+		int[] numbers = unsorted();
+		
+		autoSorter.sort(numbers);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] quickSort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.quickSort(numbers);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] threeWayQuickSort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.quickSort(numbers, Sorters.PartitionStrategy.THREE_WAY);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] dualPivotQuickSort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.quickSort(numbers, Sorters.PartitionStrategy.DUAL_PIVOT);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] introSort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.introSort(numbers);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] heapSort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.heapSort(numbers);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] mergeSort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.mergeSort(numbers);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] mergeSortWithWorkspace() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.mergeSort(numbers, workspace);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] parallelMergeSort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.parallelMergeSort(numbers);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] timSort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.timSort(numbers);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] radixSort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.radixSort(numbers, workspace);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] countingSort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.countingSort(numbers);
+		
+		return numbers;
+	}
+	
+	@Benchmark
+	public int[] parallelRadixSort() {
+		
+		int[] numbers = unsorted();
+		
+		Sorters.parallelRadixSort(numbers);
+		
+		return numbers;
+	}
+}
@@ -0,0 +1,145 @@
+package tech.asmussen.util.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.asmussen.util.Sorters;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the statistics methods of {@link Sorters}, none of which modify their input.
+ * <p>
+ * These run without the Vector API, see {@link VectorStatisticsBenchmark} for the same benchmarks with it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatisticsBenchmark {
+	
+	private static final long SEED = 42;
+	
+	private static final int BUCKET_COUNT = 64;
+	
+	@Param({"1000", "100000", "10000000"})
+	int size;
+	
+	@Param
+	Distribution distribution;
+	
+	private final Sorters sorters = new Sorters();
+	
+	private int[] numbers;
+	private long[] longs;
+	private double[] doubles;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		
+		numbers = distribution.generate(size, SEED);
+		longs = new long[size];
+		doubles = new double[size];
+		
+		for (int i = 0; i < size; i++) {
+			
+			longs[i] = numbers[i];
+			doubles[i] = numbers[i];
+		}
+	}
+	
+	@Benchmark
+	public int getLargest() {
+		
+		return Sorters.getLargest(numbers);
+	}
+	
+	@Benchmark
+	public int getSmallest() {
+		
+		return Sorters.getSmallest(numbers);
+	}
+	
+	@Benchmark
+	public long getSum() {
+		
+		return Sorters.getSum(numbers);
+	}
+	
+	@Benchmark
+	public long getLargestLong() {
+		
+		return Sorters.getLargest(longs);
+	}
+	
+	@Benchmark
+	public long getSumLong() {
+		
+		return Sorters.getSum(longs);
+	}
+	
+	@Benchmark
+	public double getLargestDouble() {
+		
+		return Sorters.getLargest(doubles);
+	}
+	
+	@Benchmark
+	public double getSumDouble() {
+		
+		return Sorters.getSum(doubles);
+	}
+	
+	@Benchmark
+	public double getAverage() {
+		
+		return sorters.getAverage(numbers);
+	}
+	
+	@Benchmark
+	public int[] getHistogram() {
+		
+		return Sorters.getHistogram(numbers, BUCKET_COUNT);
+	}
+	
+	@Benchmark
+	public int getMedian() {
+		
+		return Sorters.getMedian(numbers);
+	}
+	
+	@Benchmark
+	public int[] getPercentiles() {
+		
+		return Sorters.getPercentiles(numbers, 50, 90, 99, 99.9);
+	}
+	
+	@Benchmark
+	public int[] topK() {
+		
+		return Sorters.topK(numbers, 10);
+	}
+	
+	@Benchmark
+	public Sorters.Statistics summarize() {
+		
+		return Sorters.summarize(numbers);
+	}
+	
+	@Benchmark
+	public Sorters.Statistics parallelSummarize() {
+		
+		return Sorters.parallelSummarize(numbers);
+	}
+}
@@ -0,0 +1,12 @@
+package tech.asmussen.util.benchmark;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * Runs the {@link StatisticsBenchmark} benchmarks in a JVM with the incubating Vector API added,
+ * so the reductions that support it use SIMD instructions.
+ */
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class VectorStatisticsBenchmark extends StatisticsBenchmark {
+	
+}